@@ -22,6 +22,7 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * When this class is used as the first argument of an interop method, Ballerina
@@ -59,6 +60,21 @@ public class Environment {
         return new Future(this.strand);
     }
 
+    /**
+     * Mark the current executing strand as async and run the given blocking task on a separate thread pool used for
+     * blocking interop calls such as database or file I/O. The strand worker thread is released while the task is
+     * running, so other Ballerina code is not starved. The value returned by the task is used as the return value of
+     * the current interop call and an exception thrown by the task will cause the strand to panic. The callee of this
+     * method must return immediately after calling it.
+     *
+     * @param task blocking task to be executed
+     */
+    public void runBlocking(Supplier<Object> task) {
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.scheduler.scheduleBlocking(strand, task);
+    }
+
     public Runtime getRuntime() {
         return new Runtime(strand.scheduler);
     }
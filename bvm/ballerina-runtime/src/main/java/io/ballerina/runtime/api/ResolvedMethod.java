@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * A method of an object, which is resolved once to be invoked many times through
+ * {@link Runtime#invokeMethodAsync(BObject, ResolvedMethod, String, StrandMetadata, Callback, java.util.Map,
+ * Object...)}, e.g. by a listener which invokes a remote or resource method of a service for each event.
+ * <p>
+ * The method of the generated class of the object is invoked directly, instead of looking it up by its name through
+ * {@link BObject#call(Strand, String, Object...)} on each invocation. Objects of other classes, and invocations with
+ * a different number of arguments, are still dispatched by the name of the method.
+ *
+ * @since 2.0.0
+ */
+public class ResolvedMethod {
+
+    private final String name;
+    private final Class<?> objectClass;
+    private final MethodHandle handle;
+    private final int arity;
+    private final Type returnType;
+    private final Function<Object[], Object> function = this::invoke;
+
+    ResolvedMethod(BObject object, String name) {
+        this.name = name;
+        this.objectClass = object.getClass();
+        this.returnType = getReturnType(object.getType(), name);
+        Method method = findMethod(objectClass, name);
+        if (method == null) {
+            this.handle = null;
+            this.arity = -1;
+            return;
+        }
+        this.arity = method.getParameterCount() - 1;
+        try {
+            this.handle = MethodHandles.publicLookup().unreflect(method)
+                    .asType(java.lang.invoke.MethodType.genericMethodType(arity + 2))
+                    .asSpreader(Object[].class, arity);
+        } catch (IllegalAccessException e) {
+            throw new BallerinaException("cannot access method '" + name + "' of " + objectClass.getName(), e);
+        }
+    }
+
+    private static Method findMethod(Class<?> objectClass, String name) {
+        for (Method method : objectClass.getMethods()) {
+            if (method.getName().equals(name) && !Modifier.isStatic(method.getModifiers()) &&
+                    method.getParameterCount() > 0 && method.getParameterTypes()[0] == Strand.class) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Type getReturnType(ObjectType objectType, String name) {
+        for (MethodType method : objectType.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method.getType().getReturnType();
+            }
+        }
+        if (objectType instanceof ServiceType) {
+            for (MethodType method : ((ServiceType) objectType).getResourceMethods()) {
+                if (method.getName().equals(name)) {
+                    return method.getType().getReturnType();
+                }
+            }
+        }
+        return PredefinedTypes.TYPE_NULL;
+    }
+
+    /**
+     * Gets the name of the method.
+     *
+     * @return method name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of arguments the method is invoked with, including the flags of the defaultable parameters.
+     *
+     * @return number of arguments, or -1 if the method is dispatched by its name
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Gets the return type of the method.
+     *
+     * @return return type
+     */
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Gets the function scheduled to invoke the method, which takes the strand, the object and the arguments.
+     */
+    Function<Object[], Object> getFunction() {
+        return function;
+    }
+
+    private Object invoke(Object[] params) {
+        Strand strand = (Strand) params[0];
+        BObject object = (BObject) params[1];
+        Object[] args = (Object[]) params[2];
+        if (handle == null || object.getClass() != objectClass || args.length != arity) {
+            return object.call(strand, name, args);
+        }
+        try {
+            return (Object) handle.invokeExact((Object) object, (Object) strand, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BallerinaException(e);
+        }
+    }
+}
@@ -97,6 +97,44 @@ public class Runtime {
                 metadata);
     }
 
+    /**
+     * Resolve a method of an object, to invoke it many times with
+     * {@link #invokeMethodAsync(BObject, ResolvedMethod, String, StrandMetadata, Callback, Map, Object...)}.
+     *
+     * @param object     Object Value.
+     * @param methodName Name of the method.
+     * @return the resolved method, which can be invoked on any object of the same type.
+     */
+    public ResolvedMethod resolveMethod(BObject object, String methodName) {
+        if (object == null) {
+            throw new NullPointerException();
+        }
+        return new ResolvedMethod(object, methodName);
+    }
+
+    /**
+     * Invoke a resolved Object method asynchronously. This will schedule the function and block the strand.
+     *
+     * @param object     Object Value.
+     * @param method     Method resolved by {@link #resolveMethod(BObject, String)}.
+     * @param strandName Name for newly creating strand which is used to execute the function pointer. This is
+     *                   optional and can be null.
+     * @param metadata   Meta data of new strand.
+     * @param callback   Callback which will get notify once method execution done.
+     * @param properties Set of properties for strand
+     * @param args       Ballerina function arguments.
+     * @return           {@link FutureValue} containing return value of executing this method.
+     */
+    public BFuture invokeMethodAsync(BObject object, ResolvedMethod method, String strandName,
+                                     StrandMetadata metadata, Callback callback, Map<String, Object> properties,
+                                     Object... args) {
+        if (object == null) {
+            throw new NullPointerException();
+        }
+        return scheduler.schedule(new Object[]{null, object, args}, method.getFunction(), null, callback, properties,
+                method.getReturnType(), strandName, metadata);
+    }
+
     public void registerListener(BObject listener) {
         scheduler.getListenerRegistry().registerListener(listener);
     }
@@ -47,8 +47,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -114,25 +112,24 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
+        // Strings of only ASCII or Latin-1 chars are already stored compactly, one byte per char, by java.lang.String.
+        int highSurrogateCount = 0;
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogateCount++;
             }
         }
-        if (highSurrogates == null) {
+        if (highSurrogateCount == 0) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        // Code point indexes of the surrogate pairs.
+        int[] highSurrogatesArr = new int[highSurrogateCount];
+        for (int i = 0, count = 0; count < highSurrogateCount; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogatesArr[count] = i - count;
+                count++;
+            }
         }
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
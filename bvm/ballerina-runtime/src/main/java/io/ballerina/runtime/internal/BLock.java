@@ -17,13 +17,23 @@
 */
 package io.ballerina.runtime.internal;
 
+import io.ballerina.runtime.internal.scheduling.SchedulerStatistics;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be acquired either exclusively or shared. Lock statements that only read the locked variables acquire
+ * the lock shared, so they can run concurrently with each other, while the others acquire it exclusively. Blocked
+ * strands are granted the lock in the order they requested it, and a shared request has to wait while there are
+ * earlier requests waiting, so that exclusive requests are not starved by a continuous flow of shared ones.
  *
  * @since 1.0.0
  */
@@ -31,41 +41,162 @@ public class BLock {
 
     private ArrayDeque<Strand> current;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private List<Strand> readers;
+
+    private ArrayDeque<LockRequest> waitingForLock;
+
+    /**
+     * Waiting strands that were granted the lock when it was released and are yet to resume.
+     */
+    private Set<Strand> handedOver;
+
+    /**
+     * The lock store this lock belongs to.
+     */
+    final BLockStore lockStore;
 
     public BLock() {
+        this(null);
+    }
+
+    BLock(BLockStore lockStore) {
         this.current = new ArrayDeque<>();
+        this.readers = new ArrayList<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.handedOver = new HashSet<>();
+        this.lockStore = lockStore;
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        if (handedOver.remove(strand)) {
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        if ((current.isEmpty() && isReadBySameContextOnly(strand)) || lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        block(strand, false);
+        return false;
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+    public synchronized boolean lockShared(Strand strand) {
+        if (handedOver.remove(strand)) {
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        if (lockedBySameContext(strand)) {
+            // already holds the lock exclusively
+            this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        if (current.isEmpty() && (waitingForLock.isEmpty() || readers.contains(strand))) {
+            this.readers.add(strand);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        block(strand, true);
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        Strand owner = this.current.removeLast();
+        owner.removeAcquiredLock(this);
+        if (isLockFree()) {
+            handOverToWaiting();
+        }
+    }
+
+    public synchronized void unlockShared(Strand strand) {
+        if (lockedBySameContext(strand)) {
+            this.current.removeLast();
+        } else {
+            this.readers.remove(strand);
+        }
+        strand.removeAcquiredLock(this);
+        if (isLockFree()) {
+            handOverToWaiting();
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.current.isEmpty() && this.readers.isEmpty();
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return !this.current.isEmpty() && this.current.getLast() == ctx;
+    }
+
+    private boolean isReadBySameContextOnly(Strand strand) {
+        for (Strand reader : readers) {
+            if (reader != strand) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void block(Strand strand, boolean shared) {
+        this.waitingForLock.offerLast(new LockRequest(strand, shared));
+
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+    }
+
+    /**
+     * Grants the free lock to the first waiting request, or to all the consecutive shared requests at the head of the
+     * queue. The granted strands take the lock when they resume and call lock again.
+     */
+    private void handOverToWaiting() {
+        LockRequest request = waitingForLock.pollFirst();
+        if (request == null) {
+            return;
+        }
+
+        if (!request.shared) {
+            this.current.offerLast(request.strand);
+            handOver(request);
+            return;
+        }
+
+        while (true) {
+            this.readers.add(request.strand);
+            handOver(request);
+            LockRequest next = waitingForLock.peekFirst();
+            if (next == null || !next.shared) {
+                return;
+            }
+            request = waitingForLock.pollFirst();
+        }
+    }
+
+    private void handOver(LockRequest request) {
+        SchedulerStatistics.getInstance().lockWaited(System.nanoTime() - request.requestedTime);
+        this.handedOver.add(request.strand);
+        request.strand.scheduler.unblockStrand(request.strand);
+    }
+
+    /**
+     * Represents a strand waiting to acquire the lock.
+     */
+    private static class LockRequest {
+        final Strand strand;
+        final boolean shared;
+        final long requestedTime;
+
+        LockRequest(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+            this.requestedTime = System.nanoTime();
+        }
     }
 }
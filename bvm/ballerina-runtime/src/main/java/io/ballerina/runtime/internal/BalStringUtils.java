@@ -56,7 +56,7 @@ import static io.ballerina.runtime.api.PredefinedTypes.TYPE_ANYDATA;
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_ERROR;
 
 /**
- * Common utility methods used for Ballerina expression syntax manipulation.
+ * Common utility methods used for Ballerina string comparison and expression syntax manipulation.
  *
  * @since 2.0.0
  */
@@ -300,6 +300,33 @@ public class BalStringUtils {
         return value;
     }
 
+    /**
+     * Compares two strings by their code points, which is the order of the Ballerina string values. The chars are
+     * compared directly, without decoding the code points of the strings.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return a negative value, zero or a positive value if the first string is less than, equal to or greater than
+     * the second string
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char ch1 = str1.charAt(i);
+            char ch2 = str2.charAt(i);
+            if (ch1 != ch2) {
+                // Surrogates encode code points above all the other chars.
+                boolean surrogate1 = Character.isSurrogate(ch1);
+                boolean surrogate2 = Character.isSurrogate(ch2);
+                if (surrogate1 != surrogate2) {
+                    return surrogate1 ? 1 : -1;
+                }
+                return ch1 - ch2;
+            }
+        }
+        return str1.length() - str2.length();
+    }
+
     /**
      * Identify elements of an array or map from a string.
      *
@@ -170,6 +170,8 @@ public class JsonParser {
         private static final String NULL = "null";
         private static final String TRUE = "true";
         private static final String FALSE = "false";
+        private static final int FIELD_NAME_CACHE_SIZE = 256;
+        private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
 
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
@@ -205,10 +207,11 @@ public class JsonParser {
 
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
-        private Deque<String> fieldNames;
+        private Deque<BString> fieldNames;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
+        private final BString[] fieldNameCache = new BString[FIELD_NAME_CACHE_SIZE];
         private int charBuffIndex;
 
         private int index;
@@ -295,8 +298,7 @@ public class JsonParser {
 
             Object parentNode = this.nodesStack.pop();
             if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
-                ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
-                                                                 currentJsonNode);
+                ((MapValueImpl<BString, Object>) parentNode).put(fieldNames.pop(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
             }
@@ -545,7 +547,47 @@ public class JsonParser {
         }
 
         private void processFieldName() {
-            this.fieldNames.push(this.value());
+            this.fieldNames.push(this.fieldName());
+        }
+
+        /**
+         * Returns the field name in the char buffer, reusing the string of the same field name parsed recently if
+         * there is one. Field names repeat across the objects of a document, hence the objects share the field name
+         * strings. The cache has a fixed size, where a name replaces the name cached in the same slot, and belongs to
+         * the state machine of a thread, hence a document cannot fill up a cache used by other documents.
+         *
+         * @return the field name
+         */
+        private BString fieldName() {
+            int length = this.charBuffIndex;
+            if (length > MAX_CACHED_FIELD_NAME_LENGTH) {
+                return StringUtils.fromString(this.value());
+            }
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + this.charBuff[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+            BString fieldName = this.fieldNameCache[slot];
+            if (fieldName != null && this.isInCharBuff(fieldName.getValue())) {
+                this.charBuffIndex = 0;
+                return fieldName;
+            }
+            fieldName = StringUtils.fromString(this.value());
+            this.fieldNameCache[slot] = fieldName;
+            return fieldName;
+        }
+
+        private boolean isInCharBuff(String value) {
+            if (value.length() != this.charBuffIndex) {
+                return false;
+            }
+            for (int i = 0; i < this.charBuffIndex; i++) {
+                if (value.charAt(i) != this.charBuff[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         /**
@@ -659,7 +701,7 @@ public class JsonParser {
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                                sm.fieldNames.pop(), StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -857,7 +899,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
+                                    this.fieldNames.pop(), Boolean.TRUE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.TRUE;
@@ -872,7 +914,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
+                                    this.fieldNames.pop(), Boolean.FALSE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.FALSE;
@@ -886,8 +928,7 @@ public class JsonParser {
                             ((ArrayValue) this.currentJsonNode).append(null);
                             break;
                         case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
+                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(this.fieldNames.pop(), null);
                             break;
                         case VALUE:
                             currentJsonNode = null;
@@ -925,8 +966,7 @@ public class JsonParser {
                     ((ArrayValue) this.currentJsonNode).append(value);
                     break;
                 case FIELD:
-                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(this.fieldNames.pop(), value);
                     break;
                 default:
                     currentJsonNode = value;
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
@@ -55,6 +56,15 @@ public class TableUtils {
             return 0L;
         }
 
+        if (obj instanceof DecimalValue) {
+            // Decimals which differ only in trailing zeros are equal, hence they should have the same hash.
+            DecimalValue decimal = (DecimalValue) obj;
+            if (decimal.valueKind == DecimalValueKind.OTHER || decimal.valueKind == DecimalValueKind.ZERO) {
+                return (long) decimal.decimalValue().stripTrailingZeros().hashCode();
+            }
+            return (long) decimal.valueKind.hashCode();
+        }
+
         if (obj instanceof RefValue) {
 
             Node node = new Node(obj, parent);
@@ -68,8 +78,10 @@ public class TableUtils {
             Type refType = refValue.getType();
             if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
                 MapValue mapValue = (MapValue) refValue;
+                // Equal mappings may hold their fields in a different order, hence the field hashes are combined
+                // without depending on the order.
                 for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
+                    result += hash(((Map.Entry) entry).getKey(), node) ^
                             (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
                                     node));
                 }
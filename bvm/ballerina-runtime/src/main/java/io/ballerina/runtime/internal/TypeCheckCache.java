@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memo of the results of checking whether a type is a subtype of another type, by looking only at the types.
+ * <p>
+ * Types are populated before any value of them is created, and are not changed afterwards. Hence a result which
+ * does not depend on a value, and is not computed while assuming the result of an enclosing check of recursive types,
+ * holds as long as the types exist. The types are compared by identity, since types with the same name are not
+ * necessarily the same type.
+ *
+ * @since 2.0.0
+ */
+class TypeCheckCache {
+
+    // Types created on the fly are never checked again, so the memo is cleared instead of growing beyond this size.
+    private static final int MAX_CACHE_SIZE = 1 << 14;
+
+    private static final Map<TypePair, Boolean> CACHE = new ConcurrentHashMap<>();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Gets the memoized result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType type to check
+     * @param targetType type to check against
+     * @return the result of the check, or null if the result is not memoized
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        return CACHE.get(new TypePair(sourceType, targetType));
+    }
+
+    /**
+     * Memoizes the result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType type which was checked
+     * @param targetType type which was checked against
+     * @param result     result of the check
+     */
+    static void put(Type sourceType, Type targetType, boolean result) {
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(new TypePair(sourceType, targetType), result);
+    }
+
+    private static class TypePair {
+
+        private final Type sourceType;
+        private final Type targetType;
+
+        TypePair(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypePair)) {
+                return false;
+            }
+
+            TypePair other = (TypePair) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+}
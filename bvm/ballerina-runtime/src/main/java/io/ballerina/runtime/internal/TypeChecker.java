@@ -690,8 +690,17 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    // The result may depend on the types assumed to match by an enclosing check.
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+                if (cachedResult != null) {
+                    return cachedResult;
+                }
+                boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+                TypeCheckCache.put(sourceType, targetType, result);
+                return result;
         }
     }
 
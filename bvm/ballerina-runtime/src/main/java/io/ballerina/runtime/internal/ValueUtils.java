@@ -30,6 +30,7 @@ import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.StringValuePool;
 
 import java.util.Map;
 
@@ -65,12 +66,15 @@ public class ValueUtils {
     public static BMap<BString, Object> createRecordValue(Module packageId, String recordTypeName,
                                                           Map<String, Object> valueMap) {
         BMap<BString, Object> record = createRecordValue(packageId, recordTypeName);
+        Map<String, Field> fields = ((BRecordType) record.getType()).getFields();
         for (Map.Entry<String, Object> fieldEntry : valueMap.entrySet()) {
             Object val = fieldEntry.getValue();
             if (val instanceof String) {
                 val = StringUtils.fromString((String) val);
             }
-            record.put(StringUtils.fromString(fieldEntry.getKey()), val);
+            // Only the names of the fields of the record type are interned, not the keys of the rest fields.
+            String key = fieldEntry.getKey();
+            record.put(fields.containsKey(key) ? StringValuePool.intern(key) : StringUtils.fromString(key), val);
         }
 
         return record;
@@ -93,7 +97,7 @@ public class ValueUtils {
                 continue;
             }
 
-            mapValue.put(StringUtils.fromString(fieldEntry.getKey()), value instanceof String ?
+            mapValue.put(StringValuePool.intern(fieldEntry.getKey()), value instanceof String ?
                     StringUtils.fromString((String) value) : value);
         }
         return mapValue;
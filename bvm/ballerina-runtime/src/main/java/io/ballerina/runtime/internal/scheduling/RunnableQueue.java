@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.List;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready for execution in the {@link Scheduler}.
+ *
+ * @since 2.0.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Registers the calling thread as the scheduler worker with the given index. Called once by each worker thread
+     * before it starts taking groups.
+     *
+     * @param workerId index of the worker, between 0 and the number of workers (exclusive)
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Adds a group that is ready to run.
+     *
+     * @param group item group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds a batch of groups that are ready to run, waking up as many idle workers as needed at once.
+     *
+     * @param groups item groups to be executed
+     */
+    void addAll(List<ItemGroup> groups);
+
+    /**
+     * Takes the next group to be executed, waiting until one is available.
+     *
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Records that a group which was not taken from the queue is run by the calling worker, e.g. a group woken up by
+     * the item the worker has just executed.
+     *
+     * @param group item group run by the calling worker
+     */
+    void runByCurrentWorker(ItemGroup group);
+
+    /**
+     * Returns the number of groups waiting to be executed.
+     *
+     * @return number of queued groups
+     */
+    int size();
+}
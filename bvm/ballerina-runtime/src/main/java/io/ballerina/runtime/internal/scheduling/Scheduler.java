@@ -31,17 +31,23 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
 
@@ -61,14 +67,21 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    private static final SchedulerStatistics statistics = SchedulerStatistics.getInstance();
+
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    private static String blockingPoolSizeConf =
+            System.getenv(RuntimeConstants.BALLERINA_MAX_BLOCKING_POOL_SIZE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -77,6 +90,17 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * Maximum number of threads used to run blocking interop calls. This can be changed by setting the
+     * BALLERINA_MAX_BLOCKING_POOL_SIZE system variable.
+     */
+    private static int blockingPoolSize = 256;
+
+    /**
+     * Elastic thread pool which runs blocking interop calls off the strand workers. Created on first use.
+     */
+    private volatile ThreadPoolExecutor blockingExecutor;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
 
@@ -92,15 +116,34 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
+    /**
+     * Creates the runnable queue for the scheduler mode given by the BALLERINA_SCHEDULER_MODE system variable.
+     * Default is a single queue shared by all the workers.
+     */
+    private RunnableQueue createRunnableQueue(int numThreads) {
+        if (schedulerModeConf == null || RuntimeConstants.SCHEDULER_MODE_SHARED_QUEUE.equals(schedulerModeConf)) {
+            return new SharedRunnableQueue();
+        }
+        if (RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equals(schedulerModeConf)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported value '" + schedulerModeConf + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default scheduler mode");
+        return new SharedRunnableQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -152,9 +195,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        statistics.strandStarted();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
+            statistics.groupsQueued(1);
             runnableList.add(future.strand.strandGroup);
         }
         return future;
@@ -215,9 +260,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        statistics.strandStarted();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
+        statistics.groupsQueued(1);
         runnableList.add(group);
         return future;
     }
@@ -241,19 +288,78 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        statistics.strandStarted();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
+        statistics.groupsQueued(1);
         runnableList.add(group);
         return future;
     }
 
+    /**
+     * Runs the given blocking task on the blocking thread pool and resumes the given strand with the result of the
+     * task, or with a panic if the task fails. The strand must be already marked as blocked on extern, so that the
+     * strand worker thread is released while the task is running.
+     *
+     * @param strand strand that is waiting for the task
+     * @param task   blocking task to be executed
+     */
+    public void scheduleBlocking(Strand strand, Supplier<Object> task) {
+        try {
+            getBlockingExecutor().execute(() -> {
+                try {
+                    strand.returnValue = task.get();
+                } catch (BError error) {
+                    strand.panic = error;
+                } catch (Throwable t) {
+                    strand.panic = ErrorCreator.createError(createError(t));
+                }
+                unblockStrand(strand);
+            });
+        } catch (RejectedExecutionException e) {
+            // Blocking thread pool is already shut down, hence resume the strand with a panic instead of leaving it
+            // blocked forever.
+            strand.panic = ErrorCreator.createError(e);
+            unblockStrand(strand);
+        }
+    }
+
+    private ThreadPoolExecutor getBlockingExecutor() {
+        ThreadPoolExecutor executor = this.blockingExecutor;
+        if (executor != null) {
+            return executor;
+        }
+        synchronized (this) {
+            if (this.blockingExecutor == null) {
+                try {
+                    if (blockingPoolSizeConf != null) {
+                        blockingPoolSize = Integer.parseInt(blockingPoolSizeConf);
+                    }
+                } catch (Throwable t) {
+                    // Log and continue with default
+                    err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                        RuntimeConstants.BALLERINA_MAX_BLOCKING_POOL_SIZE_ENV_VAR + ", " +
+                                        t.getMessage());
+                }
+                // Threads are only created when there are blocking tasks and are released once idle.
+                executor = new ThreadPoolExecutor(blockingPoolSize, blockingPoolSize, 60L, TimeUnit.SECONDS,
+                                                  new LinkedBlockingQueue<>(),
+                                                  new BLangThreadFactory("jbal-strand-blocking"));
+                executor.allowCoreThreadTimeOut(true);
+                this.blockingExecutor = executor;
+            }
+            return this.blockingExecutor;
+        }
+    }
+
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -264,11 +370,15 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        statistics.workerStarted();
         try {
+            runnableList.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            statistics.workerStopped();
         }
     }
 
@@ -289,12 +399,14 @@ public class Scheduler {
                 this.mainBlockSem.release();
                 break;
             }
+            statistics.groupDequeued();
 
             while (!group.items.empty()) {
                 Object result = null;
                 Throwable panic = null;
 
                 item = group.get();
+                long startTime = System.nanoTime();
 
                 try {
                     strandHolder.get().strand = item.future.strand;
@@ -314,9 +426,18 @@ public class Scheduler {
                 } finally {
                     strandHolder.get().strand = null;
                 }
-                postProcess(item, result, panic);
+                ItemGroup wokenGroup = postProcess(item, result, panic);
+                statistics.workerBusy(System.nanoTime() - startTime);
                 if (group.items.empty()) {
                     group.scheduled.set(false);
+                    if (wokenGroup != null) {
+                        // run the first woken waiter on this thread instead of going through the runnable list
+                        group = wokenGroup;
+                        runnableList.runByCurrentWorker(group);
+                    }
+                } else if (wokenGroup != null) {
+                    statistics.groupsQueued(1);
+                    runnableList.add(wokenGroup);
                 }
             }
         }
@@ -324,10 +445,15 @@ public class Scheduler {
 
     /**
      * Processes the item after executing for notifying blocked items etc.
+     *
+     * @return a group woken up by the completion of the item that is not added to the runnable list and should be run
+     * by the caller, or null
      */
-    private void postProcess(SchedulerItem item, Object result, Throwable panic) {
+    private ItemGroup postProcess(SchedulerItem item, Object result, Throwable panic) {
+        ItemGroup wokenGroup = null;
         switch (item.getState()) {
             case BLOCK_AND_YIELD:
+                statistics.strandYielded();
                 item.future.strand.lock();
                 // need to recheck due to concurrency, unblockStrand() may have changed state
                 if (item.getState().getStatus() == State.YIELD.getStatus()) {
@@ -336,9 +462,12 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                item.parkedTime = System.nanoTime();
+                statistics.strandParked();
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
+                statistics.strandYielded();
                 WaitContext waitContext = item.future.strand.waitContext;
                 waitContext.lock();
                 waitContext.intermediate = false;
@@ -349,6 +478,7 @@ public class Scheduler {
                 waitContext.unLock();
                 break;
             case YIELD:
+                statistics.strandYielded();
                 reschedule(item);
                 break;
             case RUNNABLE:
@@ -372,8 +502,11 @@ public class Scheduler {
 
                 justCompleted.setState(State.DONE);
 
-
-                for (WaitContext ctx : justCompleted.waitingContexts) {
+                // waiting contexts are only created when some strand waits on this one
+                List<WaitContext> waitingContexts = justCompleted.waitingContexts != null ?
+                        justCompleted.waitingContexts : Collections.emptyList();
+                List<ItemGroup> wokenGroups = null;
+                for (WaitContext ctx : waitingContexts) {
                     ctx.lock();
                     if (!ctx.completed) {
                         if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
@@ -381,15 +514,31 @@ public class Scheduler {
                                 ctx.runnable = true;
                             } else {
                                 ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                                ItemGroup group = makeRunnable(ctx.schedulerItem);
+                                if (group != null) {
+                                    if (wokenGroups == null) {
+                                        wokenGroups = new ArrayList<>();
+                                    }
+                                    wokenGroups.add(group);
+                                }
                             }
                         }
                     }
                     ctx.unLock();
                 }
 
+                // the first woken group is run by the caller and the rest are queued at once
+                if (wokenGroups != null) {
+                    wokenGroup = wokenGroups.get(0);
+                    if (wokenGroups.size() > 1) {
+                        statistics.groupsQueued(wokenGroups.size() - 1);
+                        runnableList.addAll(wokenGroups.subList(1, wokenGroups.size()));
+                    }
+                }
+
                 cleanUp(justCompleted);
 
+                statistics.strandCompleted();
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
@@ -403,6 +552,7 @@ public class Scheduler {
             default:
                 assert false : "illegal strand state during execute " + item.getState();
         }
+        return wokenGroup;
     }
 
     public void setImmortal(boolean immortal) {
@@ -422,6 +572,10 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            statistics.strandUnparked();
+            if (strand.blockedOnExtern) {
+                statistics.blockedOnExtern(System.nanoTime() - strand.schedulerItem.parkedTime);
+            }
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -440,6 +594,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
@@ -459,6 +616,19 @@ public class Scheduler {
     }
 
     private void reschedule(SchedulerItem item) {
+        ItemGroup group = makeRunnable(item);
+        if (group != null) {
+            statistics.groupsQueued(1);
+            runnableList.add(group);
+        }
+    }
+
+    /**
+     * Marks the item as runnable and adds it to its group.
+     *
+     * @return the group of the item if it has to be put back in the runnable list, or null
+     */
+    private ItemGroup makeRunnable(SchedulerItem item) {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
@@ -469,9 +639,10 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                return group;
             }
         }
+        return null;
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -488,15 +659,17 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        // frames are created when the strand yields
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
         }
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdown();
+        }
     }
 
     public void setListenerDeclarationFound(boolean listenerDeclarationFound) {
@@ -551,6 +724,11 @@ class SchedulerItem {
     final FutureValue future;
     boolean parked;
 
+    /**
+     * Time the item was parked at, as given by {@link System#nanoTime()}.
+     */
+    long parkedTime;
+
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
         this.function = function;
@@ -605,6 +783,12 @@ class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Index of the worker that executed this group last, or -1 if it has not been executed yet. Only used by the
+     * work-stealing scheduler mode to queue the group back on the same worker.
+     */
+    volatile int worker = -1;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
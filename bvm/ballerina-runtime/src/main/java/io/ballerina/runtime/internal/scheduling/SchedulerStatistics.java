@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide statistics of the {@link Scheduler}s, published as metrics when observability is enabled.
+ * <p>
+ * All the values are kept in {@link LongAdder}s so that updating them from the scheduler workers neither contends nor
+ * allocates, and the statistics are always collected.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStatistics {
+
+    private static final SchedulerStatistics INSTANCE = new SchedulerStatistics();
+
+    private final LongAdder queuedGroups = new LongAdder();
+    private final LongAdder activeStrands = new LongAdder();
+    private final LongAdder parkedStrands = new LongAdder();
+    private final LongAdder yields = new LongAdder();
+    private final LongAdder blockedOnExternNanos = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder workers = new LongAdder();
+
+    private SchedulerStatistics() {
+    }
+
+    public static SchedulerStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    void groupsQueued(int count) {
+        queuedGroups.add(count);
+    }
+
+    void groupDequeued() {
+        queuedGroups.decrement();
+    }
+
+    void strandStarted() {
+        activeStrands.increment();
+    }
+
+    void strandCompleted() {
+        activeStrands.decrement();
+    }
+
+    void strandParked() {
+        parkedStrands.increment();
+    }
+
+    void strandUnparked() {
+        parkedStrands.decrement();
+    }
+
+    void strandYielded() {
+        yields.increment();
+    }
+
+    void blockedOnExtern(long nanos) {
+        blockedOnExternNanos.add(nanos);
+    }
+
+    void workerStarted() {
+        workers.increment();
+    }
+
+    void workerStopped() {
+        workers.decrement();
+    }
+
+    void workerBusy(long nanos) {
+        busyNanos.add(nanos);
+    }
+
+    /**
+     * Records the time a strand waited to acquire a lock.
+     *
+     * @param nanos wait time in nanoseconds
+     */
+    public void lockWaited(long nanos) {
+        lockWaitNanos.add(nanos);
+    }
+
+    /**
+     * @return number of strand groups waiting in the runnable lists
+     */
+    public long getRunnableQueueDepth() {
+        return queuedGroups.sum();
+    }
+
+    /**
+     * @return number of strands that are scheduled and not completed yet
+     */
+    public long getActiveStrands() {
+        return activeStrands.sum();
+    }
+
+    /**
+     * @return number of strands that are blocked and returned to the scheduler
+     */
+    public long getParkedStrands() {
+        return parkedStrands.sum();
+    }
+
+    /**
+     * @return number of times strands yielded the worker thread since the start
+     */
+    public long getYields() {
+        return yields.sum();
+    }
+
+    /**
+     * @return total time strands were blocked on async external calls since the start, in nanoseconds
+     */
+    public long getBlockedOnExternNanos() {
+        return blockedOnExternNanos.sum();
+    }
+
+    /**
+     * @return total time strands waited to acquire locks since the start, in nanoseconds
+     */
+    public long getLockWaitNanos() {
+        return lockWaitNanos.sum();
+    }
+
+    /**
+     * @return total time the scheduler workers spent running strands since the start, in nanoseconds
+     */
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    /**
+     * @return number of running scheduler worker threads
+     */
+    public long getWorkers() {
+        return workers.sum();
+    }
+}
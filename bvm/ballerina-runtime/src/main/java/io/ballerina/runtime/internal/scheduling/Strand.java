@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -29,6 +30,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -54,11 +56,16 @@ import static io.ballerina.runtime.internal.scheduling.State.YIELD;
 public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
+    private static final int INITIAL_FRAMES_SIZE = 8;
 
     private int id;
     private String name;
     private StrandMetadata metadata;
 
+    /**
+     * Frames of the functions that yielded, in the order they were yielded. Created when the strand yields for the
+     * first time and reused afterwards.
+     */
     public Object[] frames;
     public int resumeIndex;
     public Object returnValue;
@@ -72,12 +79,28 @@ public class Strand {
     public Set<SchedulerItem> dependants;
     public boolean cancel;
 
+    /**
+     * Locks currently held by this strand in the order they were acquired. A lock acquired again by the same strand
+     * appears more than once. Created when the strand acquires its first lock.
+     */
+    public List<BLock> acquiredLocks;
+
     SchedulerItem schedulerItem;
+
+    /**
+     * Contexts of the strands waiting for this strand to complete. Created when the first strand waits for this strand
+     * and accessed while holding the strand lock.
+     */
     List<WaitContext> waitingContexts;
     WaitContext waitContext;
     ItemGroup strandGroup;
 
+    /**
+     * Strand local properties. Null until a property is set, and shared with the parent strand until either of them
+     * sets a property.
+     */
     private Map<String, Object> globalProps;
+    private boolean globalPropsShared;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
@@ -88,23 +111,19 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+        } else if (parent != null && parent.globalProps != null && !parent.globalProps.isEmpty()) {
+            // copied by the strand that sets a property first
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
         }
     }
 
@@ -112,6 +131,9 @@ public class Strand {
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
+            if (parent.trxContexts == null) {
+                parent.trxContexts = new Stack<>();
+            }
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
@@ -146,7 +168,7 @@ public class Strand {
      */
     @Deprecated
     public Object getProperty(String key) {
-        return this.globalProps.get(key);
+        return this.globalProps == null ? null : this.globalProps.get(key);
     }
 
     /**
@@ -155,6 +177,12 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        } else if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
         this.globalProps.put(key, value);
     }
 
@@ -168,7 +196,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -177,6 +205,9 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
@@ -252,7 +283,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -292,7 +323,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -314,7 +345,17 @@ public class Strand {
         return waitResult;
     }
 
+    private void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>(1);
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>(channels.length * 2);
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -352,6 +393,37 @@ public class Strand {
         return (this.state.getStatus() & YIELD.getStatus()) == YIELD.getStatus();
     }
 
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>(2);
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        // locks are released in the reverse order of acquiring, hence search from the end
+        for (int i = this.acquiredLocks.size() - 1; i >= 0; i--) {
+            if (this.acquiredLocks.get(i) == lock) {
+                this.acquiredLocks.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Saves the frame of a function that is yielding, to be restored when the strand resumes.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = new Object[INITIAL_FRAMES_SIZE];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length * 2);
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
     public boolean isBlockedOnExtern() {
         return blockedOnExtern;
     }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RunnableQueue} which keeps a separate deque for each scheduler worker. A worker first runs the groups in its
+ * own deque, then the groups submitted from non worker threads and finally steals from the other workers.
+ * <p>
+ * A group is always queued in the deque of the worker that executed it last, so that a rescheduled strand group goes
+ * back to the same thread unless that thread is busy and another worker steals it.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] workerQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Integer> currentWorker = new ThreadLocal<>();
+
+    /**
+     * Number of groups available in all the queues. Incremented after a group is queued and decremented after a group
+     * is taken, hence a positive value means there is at least one group that is queued or being handed over.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition groupAvailable = idleLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workerQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        currentWorker.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        enqueue(group);
+        pending.incrementAndGet();
+        signalIdleWorkers(1);
+    }
+
+    @Override
+    public void addAll(List<ItemGroup> groups) {
+        for (ItemGroup group : groups) {
+            enqueue(group);
+        }
+        pending.addAndGet(groups.size());
+        signalIdleWorkers(groups.size());
+    }
+
+    private void enqueue(ItemGroup group) {
+        int worker = group.worker;
+        if (worker < 0) {
+            Integer current = currentWorker.get();
+            worker = current == null ? -1 : current;
+        }
+        if (worker < 0) {
+            injectionQueue.add(group);
+        } else {
+            workerQueues[worker].addLast(group);
+        }
+    }
+
+    private void signalIdleWorkers(int groupCount) {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+        idleLock.lock();
+        try {
+            if (groupCount >= idleWorkers.get()) {
+                groupAvailable.signalAll();
+            } else {
+                for (int i = 0; i < groupCount; i++) {
+                    groupAvailable.signal();
+                }
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        int worker = currentWorker.get();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                pending.decrementAndGet();
+                if (group != ItemGroup.POISON_PILL) {
+                    group.worker = worker;
+                }
+                return group;
+            }
+            awaitGroup();
+        }
+    }
+
+    @Override
+    public void runByCurrentWorker(ItemGroup group) {
+        Integer worker = currentWorker.get();
+        if (worker != null) {
+            group.worker = worker;
+        }
+    }
+
+    @Override
+    public int size() {
+        return pending.get();
+    }
+
+    private ItemGroup poll(int worker) {
+        ItemGroup group = workerQueues[worker].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(int worker) {
+        int numWorkers = workerQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == worker) {
+                continue;
+            }
+            ItemGroup group = workerQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void awaitGroup() throws InterruptedException {
+        idleLock.lock();
+        try {
+            // Workers must register as idle before re-checking the pending count, otherwise a group added in between
+            // will not signal any worker.
+            idleWorkers.incrementAndGet();
+            try {
+                while (pending.get() == 0) {
+                    groupAvailable.await();
+                }
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+}
@@ -17,10 +17,10 @@
 */
 package io.ballerina.runtime.internal.scheduling;
 
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.PrintStream;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -29,18 +29,30 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Messages are passed through a lock free {@link WorkerDataQueue}. The channel lock is only taken on the slow paths,
+ * i.e. when the receiver has to be parked or woken up, for sync sends, flushes and when one side fails.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final PrintStream err = System.err;
+
+    /**
+     * Maximum number of pending async messages in a channel before the sender is blocked. This can be changed by
+     * setting the BALLERINA_WORKER_CHANNEL_CAPACITY system variable. Zero, the default, means unbounded.
+     */
+    private static final int CAPACITY = getChannelCapacity();
+
+    private volatile Strand receiver;
+    private volatile Strand blockedSender;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile WaitingSender flushSender;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
@@ -48,7 +60,7 @@ public class WorkerDataChannel {
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue<WorkerResult> channel = new WorkerDataQueue<>();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,15 +82,65 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
+    /**
+     * Put data for async send. If the channel is bounded and full, the sender is blocked without sending the data and
+     * the send is executed again once the receiver takes a message.
+     *
+     * @param data   data to be sent over the channel
+     * @param sender sending strand
+     */
     @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
+        if (CAPACITY > 0 && this.channel.size() >= CAPACITY && !blockOnFullChannel(sender)) {
+            return;
+        }
+        this.channel.offer(new WorkerResult(data));
+        this.senderCounter++;
+        // The receiver sets itself before checking the channel again, hence either it sees the message or we see it.
+        if (this.receiver != null) {
+            unblockReceiver();
+        }
+    }
+
+    private boolean blockOnFullChannel(Strand sender) {
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
+            if (this.error != null || this.panic != null) {
+                // the receiver will not take any more messages
+                return true;
+            }
+            this.blockedSender = sender;
+            if (this.channel.size() < CAPACITY) {
+                this.blockedSender = null;
+                return true;
+            }
+            sender.setState(BLOCK_AND_YIELD);
+            return false;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void unblockReceiver() {
+        try {
+            acquireChannelLock();
+            Strand waiting = this.receiver;
+            if (waiting != null) {
                 this.receiver = null;
+                waiting.scheduler.unblockStrand(waiting);
+            }
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void unblockFullChannelSender() {
+        try {
+            acquireChannelLock();
+            Strand waiting = this.blockedSender;
+            if (waiting != null) {
+                this.blockedSender = null;
+                waiting.scheduler.unblockStrand(waiting);
             }
         } finally {
             releaseChannelLock();
@@ -97,9 +159,10 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                // the waiting sender is set first as the receiver can take the message without the channel lock
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.channel.offer(new WorkerResult(data, true));
+                this.senderCounter++;
 
                 if (this.receiver != null) {
                     // multiple checks are added to make sure this is
@@ -120,10 +183,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -137,48 +200,81 @@ public class WorkerDataChannel {
 
     @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        WorkerResult result = this.channel.poll();
+        if (result != null) {
+            return handleReceivedData(result);
+        }
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+            result = this.channel.poll();
             if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
+                return handleReceivedData(result);
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
             }
+            // a sender may have added a message without the channel lock, hence check again after setting the
+            // receiver
+            this.receiver = strand;
+            result = this.channel.poll();
+            if (result != null) {
+                this.receiver = null;
+                return handleReceivedData(result);
+            }
+            strand.setState(BLOCK_AND_YIELD);
+            return null;
         } finally {
             releaseChannelLock();
         }
     }
 
+    @SuppressWarnings("rawtypes")
+    private Object handleReceivedData(WorkerResult result) {
+        this.receiverCounter++;
+        if (this.blockedSender != null) {
+            unblockFullChannelSender();
+        }
+        if (result.isSync) {
+            try {
+                acquireChannelLock();
+                // sync sender will pick the this.error as result, which is null
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+        } else if (this.flushSender != null) {
+            try {
+                acquireChannelLock();
+                notifyFlushSender();
+            } finally {
+                releaseChannelLock();
+            }
+        }
+        return result.value;
+    }
+
+    private void notifyFlushSender() {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender == null || flushSender.flushCount != this.receiverCounter) {
+            return;
+        }
+        Strand flushStrand = flushSender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -217,6 +313,7 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        unblockFullChannelSender();
         releaseChannelLock();
     }
 
@@ -234,13 +331,16 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            }
+            // The flush sender is set before checking the receiver counter, hence either the receiver sees the flush
+            // sender after taking the last message or the counters are equal here.
+            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            if (this.receiverCounter == this.senderCounter) {
+                this.flushSender = null;
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
             return null;
         } finally {
             releaseChannelLock();
@@ -295,9 +395,25 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        unblockFullChannelSender();
         releaseChannelLock();
     }
 
+    private static int getChannelCapacity() {
+        String capacityConf = System.getenv(RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR);
+        if (capacityConf == null) {
+            return 0;
+        }
+        try {
+            return Math.max(Integer.parseInt(capacityConf), 0);
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                                RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR + ", " + t.getMessage());
+            return 0;
+        }
+    }
+
     /**
      * This represents a worker result value. This is done as a value to be used in the
      * queues used for worker communication. In this way, the queue can distinguish the
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unbounded single producer, single consumer queue used to pass messages of a {@link WorkerDataChannel}. Messages are
+ * kept in a linked list of fixed size array segments, so that adding and removing a message does not take a lock.
+ * Instead of allocating a node per message, a new segment is allocated once every {@code SEGMENT_SIZE} messages, and
+ * consumed segments are left to the garbage collector.
+ * <p>
+ * Only the sending strand may call {@link #offer(Object)} and only the receiving strand may call {@link #peek()} and
+ * {@link #poll()}. {@link #size()} and {@link #isEmpty()} can be called from any thread.
+ *
+ * @param <E> type of the queued messages
+ * @since 2.0.0
+ */
+class WorkerDataQueue<E> {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    // Only accessed by the producer.
+    private Segment<E> producerSegment;
+    private int producerOffset;
+
+    // Only accessed by the consumer.
+    private Segment<E> consumerSegment;
+    private int consumerOffset;
+
+    WorkerDataQueue() {
+        Segment<E> segment = new Segment<>();
+        this.producerSegment = segment;
+        this.consumerSegment = segment;
+    }
+
+    void offer(E item) {
+        if (producerOffset == SEGMENT_SIZE) {
+            Segment<E> next = new Segment<>();
+            producerSegment.next = next;
+            producerSegment = next;
+            producerOffset = 0;
+        }
+        producerSegment.items[producerOffset++] = item;
+        // A volatile write (not a lazy set) so that the callers can safely check for a parked receiver afterwards.
+        producerIndex.set(producerIndex.get() + 1);
+    }
+
+    E peek() {
+        if (consumerIndex.get() == producerIndex.get()) {
+            return null;
+        }
+        if (consumerOffset == SEGMENT_SIZE) {
+            consumerSegment = consumerSegment.next;
+            consumerOffset = 0;
+        }
+        return consumerSegment.items[consumerOffset];
+    }
+
+    E poll() {
+        E item = peek();
+        if (item == null) {
+            return null;
+        }
+        consumerSegment.items[consumerOffset++] = null;
+        consumerIndex.set(consumerIndex.get() + 1);
+        return item;
+    }
+
+    int size() {
+        // Read the consumer index first so that the result is never negative.
+        long consumed = consumerIndex.get();
+        return (int) (producerIndex.get() - consumed);
+    }
+
+    boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    /**
+     * Fixed size block of messages.
+     *
+     * @param <E> type of the queued messages
+     */
+    private static class Segment<E> {
+
+        @SuppressWarnings("unchecked")
+        private final E[] items = (E[]) new Object[SEGMENT_SIZE];
+        private Segment<E> next;
+    }
+}
@@ -27,11 +27,11 @@ import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
+import io.ballerina.runtime.internal.values.StringValuePool;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -119,7 +119,7 @@ public class BRecordType extends BStructureType implements RecordType {
                 .filter(entry -> !SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.OPTIONAL))
                 .forEach(entry -> {
                     Object value = entry.getValue().getFieldType().getEmptyValue();
-                    implicitInitValue.put(StringUtils.fromString(entry.getKey()), value);
+                    implicitInitValue.put(StringValuePool.intern(entry.getKey()), value);
                 });
         return (V) implicitInitValue;
     }
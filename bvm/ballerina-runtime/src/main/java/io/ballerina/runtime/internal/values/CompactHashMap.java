@@ -0,0 +1,580 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Insertion ordered hash map which keeps the entries in dense arrays instead of linked entry objects.
+ * </p>
+ * <p>
+ * Keys, values and hashes are stored in parallel arrays in insertion order and a separate open addressing table
+ * (linear probing) maps a hash to the position of the entry in those arrays. A removed entry leaves a tombstone in the
+ * arrays which is dropped when the arrays are resized. Compared to {@link java.util.LinkedHashMap} this does not
+ * allocate an object per entry, and iterating the map walks contiguous arrays.
+ * </p>
+ * <p>
+ * Entries returned by the entry set are views which read and write the value of the key in the map, same as the
+ * entries of {@link java.util.LinkedHashMap}.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public class CompactHashMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Object REMOVED = new Object();
+
+    private transient Object[] keys;
+    private transient Object[] values;
+    private transient int[] hashes;
+
+    /**
+     * Open addressing table, twice the size of the entry arrays. Each slot holds the position of an entry plus one, or
+     * zero if the slot is empty.
+     */
+    private transient int[] index;
+
+    /**
+     * Number of positions used in the entry arrays, including the removed entries.
+     */
+    private transient int used;
+    private transient int size;
+    private transient int modCount;
+
+    /**
+     * Incremented whenever the entries are moved to different positions, so that entry views can detect that the
+     * position they hold is stale.
+     */
+    private transient int layoutVersion;
+
+    private transient Set<Map.Entry<K, V>> entrySet;
+    private transient Set<K> keySet;
+    private transient Collection<V> valueCollection;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int pos = find(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int pos = find(key);
+        return pos < 0 ? defaultValue : (V) values[pos];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != REMOVED && Objects.equals(value, values[pos])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return putEntry(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V putEntry(K key, V value) {
+        if (index == null) {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        int hash = hash(key);
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int pos;
+        while ((pos = index[slot] - 1) >= 0) {
+            if (hashes[pos] == hash && matches(key, keys[pos])) {
+                V oldValue = (V) values[pos];
+                values[pos] = value;
+                return oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (used == keys.length) {
+            resize();
+            slot = emptySlot(hash);
+        }
+
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        index[slot] = pos + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        V oldValue = (V) values[pos];
+        removeAt(pos);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        keys = null;
+        values = null;
+        hashes = null;
+        index = null;
+        used = 0;
+        size = 0;
+        modCount++;
+        layoutVersion++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        for (int pos = 0; pos < used; pos++) {
+            Object key = keys[pos];
+            if (key != REMOVED) {
+                action.accept((K) key, (V) values[pos]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        return entries == null ? (entrySet = new EntrySet()) : entries;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keyViews = keySet;
+        return keyViews == null ? (keySet = new KeySet()) : keyViews;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> valueViews = valueCollection;
+        return valueViews == null ? (valueCollection = new Values()) : valueViews;
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(Object key, Object existingKey) {
+        return key == existingKey || (key != null && key.equals(existingKey));
+    }
+
+    private int find(Object key) {
+        if (index == null) {
+            return -1;
+        }
+
+        int hash = hash(key);
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int pos;
+        while ((pos = index[slot] - 1) >= 0) {
+            if (hashes[pos] == hash && matches(key, keys[pos])) {
+                return pos;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int emptySlot(int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity * 2];
+    }
+
+    /**
+     * Makes room for a new entry. If at least half of the used positions hold removed entries the live entries are
+     * compacted in place, otherwise the arrays are doubled. The open addressing table is rebuilt in both cases since it
+     * holds the tombstones of the removed entries.
+     */
+    private void resize() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+
+        int capacity = size * 2 <= oldKeys.length ? oldKeys.length : oldKeys.length * 2;
+        allocate(capacity);
+
+        int pos = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] == REMOVED) {
+                continue;
+            }
+            keys[pos] = oldKeys[i];
+            values[pos] = oldValues[i];
+            hashes[pos] = oldHashes[i];
+            index[emptySlot(oldHashes[i])] = pos + 1;
+            pos++;
+        }
+        used = pos;
+
+        if (size != oldUsed) {
+            layoutVersion++;
+        }
+    }
+
+    private void removeAt(int pos) {
+        keys[pos] = REMOVED;
+        values[pos] = null;
+        size--;
+        modCount++;
+
+        if (size == 0) {
+            // Nothing is left to keep in order, start over using the existing arrays.
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(index, 0);
+            used = 0;
+            layoutVersion++;
+        }
+    }
+
+    private int nextPosition(int pos) {
+        while (pos < used && keys[pos] == REMOVED) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != REMOVED) {
+                out.writeObject(keys[pos]);
+                out.writeObject(values[pos]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            K key = (K) in.readObject();
+            V value = (V) in.readObject();
+            putEntry(key, value);
+        }
+    }
+
+    /**
+     * Iterates the entry arrays in insertion order, skipping the removed entries.
+     *
+     * @param <T> the type of elements returned by the iterator
+     */
+    private abstract class EntryIterator<T> implements Iterator<T> {
+
+        private int next = nextPosition(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = nextPosition(next + 1);
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        abstract T element(int pos);
+    }
+
+    /**
+     * View of an entry of the map. The position of the entry is cached, and looked up again by the key once the
+     * entries are moved.
+     */
+    private final class Entry implements Map.Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private int pos;
+        private int version;
+
+        @SuppressWarnings("unchecked")
+        Entry(int pos) {
+            this.key = (K) keys[pos];
+            this.value = (V) values[pos];
+            this.pos = pos;
+            this.version = layoutVersion;
+        }
+
+        private boolean locate() {
+            if (version != layoutVersion || pos < 0 || pos >= used || keys[pos] != key) {
+                pos = find(key);
+                version = layoutVersion;
+            }
+            return pos >= 0;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            if (locate()) {
+                value = (V) values[pos];
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            if (locate()) {
+                values[pos] = value;
+            }
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                Map.Entry<K, V> element(int pos) {
+                    return new Entry(pos);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int pos = find(entry.getKey());
+            return pos >= 0 && Objects.equals(values[pos], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int pos = find(entry.getKey());
+            if (pos < 0 || !Objects.equals(values[pos], entry.getValue())) {
+                return false;
+            }
+            removeAt(pos);
+            return true;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Iterator<K> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                K element(int pos) {
+                    return (K) keys[pos];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int pos = find(o);
+            if (pos < 0) {
+                return false;
+            }
+            removeAt(pos);
+            return true;
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactHashMap.this.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Iterator<V> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                V element(int pos) {
+                    return (V) values[pos];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+    }
+}
@@ -50,17 +50,12 @@
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        int pos = Arrays.binarySearch(surrogates, index);
+        if (pos >= 0) {
+            int offset = index + pos;
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
-        return value.charAt(offset);
+        return value.charAt(index - pos - 1);
     }
 
     @Override
@@ -70,16 +65,24 @@
 
     @Override
     public BString concat(BString str) {
+        BString rope = RopeStringValue.concat(this, str);
+        if (rope != null) {
+            return rope;
+        }
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            // The surrogates of the other string are located after the code points of this string.
+            int length = length();
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + length;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(this.value + str.getValue());
         }
     }
 
@@ -126,33 +129,21 @@
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
+         int index = value.indexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(index);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
+         int index = value.lastIndexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(index);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -161,15 +152,30 @@
          return StringUtils.fromString(value.substring(beginOffset, endOffset));
      }
 
+     /**
+      * Returns the char index of the given code point index, i.e. the code point index plus the number of surrogate
+      * pairs before it. The surrogate pair locations are sorted, hence they are binary searched.
+      */
      private int getOffset(int fromIndex) {
-         int offset = fromIndex;
-         for (int surrogate : surrogates) {
-             if (surrogate < fromIndex) {
-                 offset++;
+         int pos = Arrays.binarySearch(surrogates, fromIndex);
+         return fromIndex + (pos >= 0 ? pos : -pos - 1);
+     }
+
+     /**
+      * Returns the code point index of the given char index, i.e. the char index minus the number of surrogate pairs
+      * before it. The char index of the i-th surrogate pair is its code point index plus i.
+      */
+     private int getCodePointIndex(int charIndex) {
+         int low = 0;
+         int high = surrogates.length;
+         while (low < high) {
+             int mid = (low + high) >>> 1;
+             if (surrogates[mid] + mid < charIndex) {
+                 low = mid + 1;
              } else {
-                 break;
+                 high = mid;
              }
          }
-         return offset;
+         return charIndex - low;
      }
  }
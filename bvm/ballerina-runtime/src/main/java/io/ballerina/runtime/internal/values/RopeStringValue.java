@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Represent ballerina strings created by concatenating two strings, without copying the characters of the strings.
+ * The characters are copied into a single string only when they are read, i.e. when the value, a code point, a
+ * substring or the hash code of the string is required. Hence building a string by concatenating strings in a loop
+ * copies the characters once instead of once per concatenation.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    // Concatenations which produce shorter strings are cheaper to copy than to defer.
+    static final int MIN_ROPE_LENGTH = 256;
+
+    // The children are released once the string is flattened, so that a flattened string does not keep the strings
+    // it was built from alive. They are volatile, so that they are seen released only after the flattened value.
+    private volatile BString left;
+    private volatile BString right;
+    private final int length;
+    private final int charLength;
+    private volatile BString flattened;
+
+    RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+    }
+
+    /**
+     * Concatenates the given strings, deferring the copy of the characters if the result is long enough.
+     *
+     * @param left  left hand side string
+     * @param right right hand side string
+     * @return the concatenated string, or null if the characters of the strings should be copied
+     */
+    static BString concat(BString left, BString right) {
+        if (charLength(left) + charLength(right) < MIN_ROPE_LENGTH) {
+            return null;
+        }
+        return new RopeStringValue(left, right);
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    private BString flatten() {
+        BString flat = flattened;
+        if (flat != null) {
+            return flat;
+        }
+        // The nodes are visited without recursion, since strings built in a loop are as deep as the loop.
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<BString> nodes = new ArrayDeque<>();
+        nodes.push(this);
+        while (!nodes.isEmpty()) {
+            BString node = nodes.pop();
+            if (!(node instanceof RopeStringValue)) {
+                builder.append(node.getValue());
+                continue;
+            }
+            RopeStringValue rope = (RopeStringValue) node;
+            BString ropeFlattened = rope.flattened;
+            if (ropeFlattened == null) {
+                BString ropeLeft = rope.left;
+                BString ropeRight = rope.right;
+                if (ropeLeft != null && ropeRight != null) {
+                    nodes.push(ropeRight);
+                    nodes.push(ropeLeft);
+                    continue;
+                }
+                // The rope was flattened by another thread after it was checked, and its children were released.
+                ropeFlattened = rope.flattened;
+            }
+            builder.append(ropeFlattened.getValue());
+        }
+        flat = StringUtils.fromString(builder.toString());
+        flattened = flat;
+        left = null;
+        right = null;
+        return flat;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return flatten().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            BString other = (BString) str;
+            return other.length() == length && other.getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Pool of interned ballerina strings, used for the string constants of the compiled code and the field names of
+ * record types, which repeat across many values. Interned strings share a single {@link BString} instance, hence
+ * looking them up in a map matches the keys by reference before comparing their characters.
+ * </p>
+ * <p>
+ * The strings are never removed from the pool, hence only strings defined by the program should be interned, and not
+ * strings read from data such as the keys of a JSON document. The pool is also bounded both in the number of strings
+ * and in the length of each string. Strings which do not fit in the pool are created as usual.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StringValuePool {
+
+    static final int MAX_POOL_SIZE = 1 << 16;
+    static final int MAX_INTERNED_LENGTH = 64;
+
+    private static final Map<String, BString> POOL = new ConcurrentHashMap<>();
+
+    private StringValuePool() {
+    }
+
+    /**
+     * Returns the interned ballerina string with the given value, interning it if the pool is not full.
+     *
+     * @param value string value
+     * @return the interned ballerina string, or a new ballerina string if the value cannot be interned
+     */
+    public static BString intern(String value) {
+        if (value == null || value.length() > MAX_INTERNED_LENGTH) {
+            return StringUtils.fromString(value);
+        }
+        BString interned = POOL.get(value);
+        if (interned != null) {
+            return interned;
+        }
+        interned = StringUtils.fromString(value);
+        if (POOL.size() >= MAX_POOL_SIZE) {
+            return interned;
+        }
+        BString existing = POOL.putIfAbsent(value, interned);
+        return existing != null ? existing : interned;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalStringUtils;
+import io.ballerina.runtime.internal.DecimalValueKind;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Secondary index of a table on a single readonly field of a simple basic type. A hash index finds the rows whose
+ * field value is equal to a given value and a sorted index also finds the rows whose field value is within a range.
+ * </p>
+ * <p>
+ * The rows of each distinct field value are kept ordered by their row id, hence the rows found are returned in the
+ * order they are iterated in the table.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+final class TableIndex {
+
+    private static final Object[] NO_ROWS = new Object[0];
+
+    private final BString fieldName;
+    private final int keyTypeTag;
+    private final Map<Object, IndexedRows> buckets;
+
+    /**
+     * Creates an index.
+     *
+     * @param fieldName  name of the indexed field
+     * @param keyTypeTag type tag of the indexed field, ignoring nil
+     * @param sorted     whether the index should support range lookups
+     */
+    TableIndex(BString fieldName, int keyTypeTag, boolean sorted) {
+        this.fieldName = fieldName;
+        this.keyTypeTag = keyTypeTag;
+        this.buckets = sorted ? new TreeMap<>(comparator(keyTypeTag)) : new HashMap<>();
+    }
+
+    /**
+     * Checks whether an index can be created on a field of the given type.
+     *
+     * @param typeTag type tag of the field, ignoring nil
+     * @param sorted  whether the index should support range lookups
+     * @return true if the field can be indexed
+     */
+    static boolean isIndexable(int typeTag, boolean sorted) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                return !sorted;
+            default:
+                return false;
+        }
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    boolean isSorted() {
+        return buckets instanceof NavigableMap;
+    }
+
+    void add(long rowId, Object row) {
+        Object key = keyOf(((MapValue<?, ?>) row).get(fieldName));
+        if (key != null || !isSorted()) {
+            buckets.computeIfAbsent(key, k -> new IndexedRows()).add(rowId, row);
+        }
+    }
+
+    void remove(long rowId, Object row) {
+        Object key = keyOf(((MapValue<?, ?>) row).get(fieldName));
+        IndexedRows rows = buckets.get(key);
+        if (rows != null && rows.remove(rowId) && rows.size == 0) {
+            buckets.remove(key);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Returns the rows whose field value is equal to the given value.
+     *
+     * @param value value to look up
+     * @return the rows in table order, or null if the value cannot be looked up in this index
+     */
+    Object[] lookUp(Object value) {
+        if (value != null && !isKeyType(value)) {
+            return null;
+        }
+        IndexedRows rows = buckets.get(keyOf(value));
+        return rows == null ? NO_ROWS : Arrays.copyOf(rows.rows, rows.size);
+    }
+
+    /**
+     * Returns the rows whose field value is within the given range. Only supported by sorted indexes.
+     *
+     * @param lower          lower bound of the range, or null if there is no lower bound
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upper          upper bound of the range, or null if there is no upper bound
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return the rows in table order, or null if the range cannot be looked up in this index
+     */
+    Object[] lookUp(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        if (!isSorted() || (lower != null && !isKeyType(lower)) || (upper != null && !isKeyType(upper))) {
+            return null;
+        }
+        Object lowerKey = keyOf(lower);
+        Object upperKey = keyOf(upper);
+        if ((lower != null && lowerKey == null) || (upper != null && upperKey == null)) {
+            // NaN is not within any range.
+            return NO_ROWS;
+        }
+
+        NavigableMap<Object, IndexedRows> sortedBuckets = (NavigableMap<Object, IndexedRows>) buckets;
+        if (lowerKey != null && upperKey != null) {
+            if (sortedBuckets.comparator().compare(lowerKey, upperKey) > 0) {
+                return NO_ROWS;
+            }
+            sortedBuckets = sortedBuckets.subMap(lowerKey, lowerInclusive, upperKey, upperInclusive);
+        } else if (lowerKey != null) {
+            sortedBuckets = sortedBuckets.tailMap(lowerKey, lowerInclusive);
+        } else if (upperKey != null) {
+            sortedBuckets = sortedBuckets.headMap(upperKey, upperInclusive);
+        }
+        return collect(sortedBuckets.values());
+    }
+
+    private static Object[] collect(Collection<IndexedRows> matches) {
+        int count = 0;
+        for (IndexedRows rows : matches) {
+            count += rows.size;
+        }
+        long[] rowIds = new long[count];
+        Object[] result = new Object[count];
+        int pos = 0;
+        for (IndexedRows rows : matches) {
+            System.arraycopy(rows.rowIds, 0, rowIds, pos, rows.size);
+            System.arraycopy(rows.rows, 0, result, pos, rows.size);
+            pos += rows.size;
+        }
+        if (matches.size() > 1) {
+            sortByRowId(rowIds, result, 0, count, new long[count], new Object[count]);
+        }
+        return result;
+    }
+
+    private static void sortByRowId(long[] rowIds, Object[] rows, int from, int to, long[] tmpIds, Object[] tmpRows) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortByRowId(rowIds, rows, from, mid, tmpIds, tmpRows);
+        sortByRowId(rowIds, rows, mid, to, tmpIds, tmpRows);
+        if (rowIds[mid - 1] <= rowIds[mid]) {
+            return;
+        }
+        System.arraycopy(rowIds, from, tmpIds, from, to - from);
+        System.arraycopy(rows, from, tmpRows, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int pos = from; pos < to; pos++) {
+            if (right >= to || (left < mid && tmpIds[left] <= tmpIds[right])) {
+                rowIds[pos] = tmpIds[left];
+                rows[pos] = tmpRows[left++];
+            } else {
+                rowIds[pos] = tmpIds[right];
+                rows[pos] = tmpRows[right++];
+            }
+        }
+    }
+
+    private boolean isKeyType(Object value) {
+        switch (keyTypeTag) {
+            case TypeTags.INT_TAG:
+                return value instanceof Long;
+            case TypeTags.FLOAT_TAG:
+                return value instanceof Double;
+            case TypeTags.DECIMAL_TAG:
+                return value instanceof DecimalValue;
+            case TypeTags.STRING_TAG:
+                return value instanceof BString;
+            default:
+                return value instanceof Boolean;
+        }
+    }
+
+    /**
+     * Returns the key of a field value in the index, such that the keys of two field values are equal if and only if
+     * the values are equal. Sorted indexes do not have keys for values which are not ordered, i.e. NaN.
+     */
+    private Object keyOf(Object value) {
+        if (value instanceof DecimalValue) {
+            DecimalValue decimal = (DecimalValue) value;
+            if (decimal.valueKind == DecimalValueKind.OTHER || decimal.valueKind == DecimalValueKind.ZERO) {
+                return decimal.decimalValue().stripTrailingZeros();
+            }
+            return isSorted() ? null : value;
+        }
+        if (value instanceof Double && isSorted()) {
+            double number = (Double) value;
+            if (Double.isNaN(number)) {
+                return null;
+            }
+            return number == 0 ? 0.0 : number;
+        }
+        return value;
+    }
+
+    private static Comparator<Object> comparator(int keyTypeTag) {
+        switch (keyTypeTag) {
+            case TypeTags.INT_TAG:
+                return (key1, key2) -> Long.compare((Long) key1, (Long) key2);
+            case TypeTags.FLOAT_TAG:
+                return (key1, key2) -> Double.compare((Double) key1, (Double) key2);
+            case TypeTags.DECIMAL_TAG:
+                return (key1, key2) -> ((BigDecimal) key1).compareTo((BigDecimal) key2);
+            default:
+                return (key1, key2) -> BalStringUtils.codePointCompare(((BString) key1).getValue(),
+                                                                       ((BString) key2).getValue());
+        }
+    }
+
+    /**
+     * Rows of a single field value, ordered by row id.
+     */
+    private static final class IndexedRows {
+
+        private long[] rowIds = new long[1];
+        private Object[] rows = new Object[1];
+        private int size;
+
+        void add(long rowId, Object row) {
+            if (size == rowIds.length) {
+                rowIds = Arrays.copyOf(rowIds, size * 2);
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            int pos = size;
+            if (size > 0 && rowIds[size - 1] > rowId) {
+                // A row replaced by its key keeps the row id of the replaced row.
+                pos = -Arrays.binarySearch(rowIds, 0, size, rowId) - 1;
+                System.arraycopy(rowIds, pos, rowIds, pos + 1, size - pos);
+                System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+            }
+            rowIds[pos] = rowId;
+            rows[pos] = row;
+            size++;
+        }
+
+        boolean remove(long rowId) {
+            int pos = Arrays.binarySearch(rowIds, 0, size, rowId);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(rowIds, pos + 1, rowIds, pos, size - pos - 1);
+            System.arraycopy(rows, pos + 1, rows, pos, size - pos - 1);
+            rows[--size] = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Storage of the rows of a table. Each row is stored once, in insertion order, in dense parallel arrays of keys,
+ * values, key hashes and row ids. Tables with a key sequence also keep an open addressing table (linear probing) which
+ * maps the hash of a key to the position of its row. Two keys with the same hash are told apart using the Ballerina
+ * equality of the keys, hence hash collisions never overwrite a row.
+ * </p>
+ * <p>
+ * Single {@code int} and {@code string} keys, which are the most common key sequences, are hashed and compared
+ * directly without going through {@link TableUtils#hash} and {@link TypeChecker#isEqual(Object, Object)}.
+ * </p>
+ * <p>
+ * A removed row leaves a tombstone which is dropped when the arrays are compacted. Every row gets an increasing row
+ * id, so that an iterator which was positioned before the rows were compacted can find where to continue.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the rows
+ *
+ * @since 2.0.0
+ */
+final class TableRows<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final long REMOVED = -1;
+
+    private final boolean keyed;
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private long[] rowIds;
+
+    /**
+     * Open addressing table, twice the size of the row arrays. Each slot holds the position of a row plus one, or zero
+     * if the slot is empty. Only allocated for keyed tables.
+     */
+    private int[] index;
+
+    /**
+     * Number of positions used in the row arrays, including the removed rows.
+     */
+    private int used;
+    private int size;
+    private long nextRowId;
+
+    /**
+     * Incremented whenever the rows are moved to different positions.
+     */
+    private int layoutVersion;
+
+    TableRows(boolean keyed) {
+        this.keyed = keyed;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    boolean isKeyed() {
+        return keyed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int used() {
+        return used;
+    }
+
+    int layoutVersion() {
+        return layoutVersion;
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int pos) {
+        return (K) keys[pos];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int pos) {
+        return (V) values[pos];
+    }
+
+    long rowIdAt(int pos) {
+        return rowIds[pos];
+    }
+
+    /**
+     * Returns the position of the row with the given key.
+     *
+     * @param key key of the row
+     * @return the position of the row, or -1 if there is no such row
+     */
+    int find(Object key) {
+        int hash = hash(key);
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int pos;
+        while ((pos = index[slot] - 1) >= 0) {
+            if (hashes[pos] == hash && rowIds[pos] != REMOVED && keyEquals(key, keys[pos])) {
+                return pos;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Stores the given row against the given key. An existing row with the same key is replaced, keeping its
+     * position, otherwise the row is appended.
+     *
+     * @param key   key of the row
+     * @param value the row
+     * @return the replaced row, or null if the key is new
+     */
+    @SuppressWarnings("unchecked")
+    V put(K key, V value) {
+        int pos = find(key);
+        if (pos >= 0) {
+            V oldValue = (V) values[pos];
+            keys[pos] = key;
+            values[pos] = value;
+            return oldValue;
+        }
+        append(key, value, hash(key));
+        return null;
+    }
+
+    /**
+     * Appends a row of a table which does not have a key sequence. The row is its own key.
+     *
+     * @param value the row
+     */
+    void append(V value) {
+        append(value, value, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(Object key) {
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        V oldValue = (V) values[pos];
+        keys[pos] = null;
+        values[pos] = null;
+        rowIds[pos] = REMOVED;
+        size--;
+        return oldValue;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        if (index != null) {
+            Arrays.fill(index, 0);
+        }
+        used = 0;
+        size = 0;
+        layoutVersion++;
+    }
+
+    /**
+     * Returns the first position starting from the given position which holds a row.
+     *
+     * @param pos position to start from
+     * @return the position of the row, or the number of used positions if there are no more rows
+     */
+    int nextPosition(int pos) {
+        while (pos < used && rowIds[pos] == REMOVED) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the position of the first row added after the row with the given id. Used to continue an iteration
+     * after the rows were compacted.
+     *
+     * @param rowId id of a row, which may have been removed since
+     * @return the position of the following row, or the number of used positions if there are no more rows
+     */
+    int positionAfter(long rowId) {
+        // Row ids only increase along the positions, except for the tombstones which are skipped.
+        int low = 0;
+        int high = used;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int live = nextPosition(mid);
+            if (live < used && rowIds[live] <= rowId) {
+                low = live + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return nextPosition(low);
+    }
+
+    private void append(Object key, Object value, int hash) {
+        if (used == values.length) {
+            resize();
+        }
+
+        int pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        rowIds[pos] = nextRowId++;
+        size++;
+        if (keyed) {
+            hashes[pos] = hash;
+            index[insertionSlot(hash)] = pos + 1;
+        }
+    }
+
+    private int insertionSlot(int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int pos;
+        while ((pos = index[slot] - 1) >= 0 && rowIds[pos] != REMOVED) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        rowIds = new long[capacity];
+        if (keyed) {
+            hashes = new int[capacity];
+            index = new int[capacity * 2];
+        }
+    }
+
+    /**
+     * Makes room for a new row. If at least half of the used positions hold removed rows the live rows are compacted,
+     * otherwise the arrays are doubled. The open addressing table is rebuilt in both cases.
+     */
+    private void resize() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        long[] oldRowIds = rowIds;
+        int oldUsed = used;
+
+        allocate(size * 2 <= oldValues.length ? oldValues.length : oldValues.length * 2);
+
+        int pos = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldRowIds[i] == REMOVED) {
+                continue;
+            }
+            keys[pos] = oldKeys[i];
+            values[pos] = oldValues[i];
+            rowIds[pos] = oldRowIds[i];
+            if (keyed) {
+                hashes[pos] = oldHashes[i];
+                index[insertionSlot(oldHashes[i])] = pos + 1;
+            }
+            pos++;
+        }
+        used = pos;
+
+        if (size != oldUsed) {
+            layoutVersion++;
+        }
+    }
+
+    private static int hash(Object key) {
+        int h;
+        if (key instanceof Long || key instanceof BString) {
+            h = key.hashCode();
+        } else {
+            h = Long.hashCode(TableUtils.hash(key, null));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keyEquals(Object key, Object existingKey) {
+        if (key instanceof Long && existingKey instanceof Long) {
+            return ((Long) key).longValue() == (Long) existingKey;
+        }
+        if (key instanceof BString && existingKey instanceof BString) {
+            return key.equals(existingKey);
+        }
+        return TypeChecker.isEqual(key, existingKey);
+    }
+}
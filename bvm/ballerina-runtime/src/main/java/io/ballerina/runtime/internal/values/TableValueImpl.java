@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -32,28 +33,25 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.lang.ref.SoftReference;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -72,36 +70,38 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    // Tables smaller than this are iterated instead of creating an index on demand
+    private static final int MIN_ROW_COUNT_TO_INDEX = 1024;
+    private static final TableIndex[] NO_INDEXES = new TableIndex[0];
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRows<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
+    // Secondary indexes added through addIndex. The array is replaced as a whole when an index is added, so that the
+    // queries running on other strands never see a partially built index.
+    private volatile TableIndex[] indexes = NO_INDEXES;
+
+    // Secondary indexes created on demand by queries. These are only kept softly reachable, so that the garbage
+    // collector can drop them instead of keeping a second copy of the field values for the lifetime of the table.
+    private volatile SoftReference<TableIndex[]> onDemandIndexes;
+
     private final Map<String, Object> nativeData = new HashMap<>();
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rows = new TableRows<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.rows = new TableRows<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -212,23 +212,30 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int pos = rows.nextPosition(0); pos < rows.used(); pos = rows.nextPosition(pos + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(pos), rows.valueAt(pos)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(rows.size());
+        for (int pos = rows.nextPosition(0); pos < rows.used(); pos = rows.nextPosition(pos + 1)) {
+            values.add(rows.valueAt(pos));
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
+        for (TableIndex index : indexes) {
+            index.clear();
+        }
+        onDemandIndexes = null;
     }
 
     @Override
@@ -257,13 +264,220 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
         return this.valueHolder.getKeyType();
     }
 
+    /**
+     * Creates a secondary index on the given field of the rows. Queries which filter or join the rows of the table
+     * using the value of the field look up the rows in the index instead of iterating all the rows.
+     * <p>
+     * Only readonly fields of type int, float, decimal, string or boolean (or any of those and nil) can be indexed,
+     * since the index is not updated when a row is mutated. A sorted index also supports range lookups, but cannot be
+     * created on a boolean field.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether a sorted index should be created instead of a hash index
+     */
+    public synchronized void addIndex(BString fieldName, boolean sorted) {
+        if (findIndex(indexes, fieldName, sorted) != null) {
+            return;
+        }
+
+        TableIndex[] onDemand = getOnDemandIndexes();
+        TableIndex index = findIndex(onDemand, fieldName, sorted);
+        if (index != null) {
+            // Keep the index created on demand, which is already up to date.
+            TableIndex[] remaining = remove(onDemand, index);
+            onDemandIndexes = remaining.length == 0 ? null : new SoftReference<>(remaining);
+        } else {
+            index = createIndex(fieldName, sorted);
+        }
+        if (index == null) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot create " + (sorted ? "a sorted" : "an") + " index on field '" + fieldName +
+                            "': the field should be a readonly field of a simple basic type"));
+        }
+        indexes = append(indexes, index);
+    }
+
+    /**
+     * Makes sure an index exists on the given field if it is worth using one. An index is created on demand if the
+     * field can be indexed and the table is large enough for the index to pay off.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether a sorted index is required
+     * @return true if the rows can be looked up using the index
+     */
+    public boolean prepareIndex(BString fieldName, boolean sorted) {
+        return getIndex(fieldName, sorted) != null ||
+                (rows.size() >= MIN_ROW_COUNT_TO_INDEX && createOnDemandIndex(fieldName, sorted) != null);
+    }
+
+    /**
+     * Returns the rows whose value for the given field is equal to the given value, using the hash index of the field.
+     * An index created on demand which was dropped since {@link #prepareIndex(BString, boolean)} is created again.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return the rows in iteration order, or null if the rows cannot be looked up using an index
+     */
+    public Object[] lookUpIndex(BString fieldName, Object value) {
+        TableIndex index = getIndex(fieldName, false);
+        if (index == null) {
+            index = createOnDemandIndex(fieldName, false);
+        }
+        return index == null ? null : index.lookUp(value);
+    }
+
+    /**
+     * Returns the rows whose value for the given field is within the given range, using the sorted index of the
+     * field. An index created on demand which was dropped since {@link #prepareIndex(BString, boolean)} is created
+     * again.
+     *
+     * @param fieldName      name of the field
+     * @param lower          lower bound of the range, or null if there is no lower bound
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upper          upper bound of the range, or null if there is no upper bound
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return the rows in iteration order, or null if the rows cannot be looked up using an index
+     */
+    public Object[] lookUpIndex(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                                boolean upperInclusive) {
+        TableIndex index = getIndex(fieldName, true);
+        if (index == null) {
+            index = createOnDemandIndex(fieldName, true);
+        }
+        return index == null ? null : index.lookUp(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    private TableIndex getIndex(BString fieldName, boolean sorted) {
+        TableIndex index = findIndex(indexes, fieldName, sorted);
+        return index != null ? index : findIndex(getOnDemandIndexes(), fieldName, sorted);
+    }
+
+    private TableIndex[] getOnDemandIndexes() {
+        SoftReference<TableIndex[]> reference = onDemandIndexes;
+        TableIndex[] onDemand = reference == null ? null : reference.get();
+        return onDemand == null ? NO_INDEXES : onDemand;
+    }
+
+    private boolean hasIndexes() {
+        return indexes.length > 0 || onDemandIndexes != null;
+    }
+
+    private static TableIndex findIndex(TableIndex[] indexes, BString fieldName, boolean sorted) {
+        for (TableIndex index : indexes) {
+            if (index.isSorted() == sorted && index.getFieldName().equals(fieldName)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private static TableIndex[] append(TableIndex[] indexes, TableIndex index) {
+        TableIndex[] newIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+        newIndexes[indexes.length] = index;
+        return newIndexes;
+    }
+
+    private static TableIndex[] remove(TableIndex[] indexes, TableIndex index) {
+        TableIndex[] newIndexes = new TableIndex[indexes.length - 1];
+        int pos = 0;
+        for (TableIndex existing : indexes) {
+            if (existing != index) {
+                newIndexes[pos++] = existing;
+            }
+        }
+        return newIndexes;
+    }
+
+    // Creates the index while holding the lock, so that concurrent queries do not build the same index twice and the
+    // index is published only once it holds all the rows.
+    private synchronized TableIndex createOnDemandIndex(BString fieldName, boolean sorted) {
+        TableIndex index = getIndex(fieldName, sorted);
+        if (index != null) {
+            return index;
+        }
+        index = createIndex(fieldName, sorted);
+        if (index != null) {
+            onDemandIndexes = new SoftReference<>(append(getOnDemandIndexes(), index));
+        }
+        return index;
+    }
+
+    private TableIndex createIndex(BString fieldName, boolean sorted) {
+        int fieldTypeTag = getIndexableFieldTypeTag(fieldName.getValue());
+        if (!TableIndex.isIndexable(fieldTypeTag, sorted)) {
+            return null;
+        }
+
+        TableIndex index = new TableIndex(fieldName, fieldTypeTag, sorted);
+        for (int pos = rows.nextPosition(0); pos < rows.used(); pos = rows.nextPosition(pos + 1)) {
+            index.add(rows.rowIdAt(pos), rows.valueAt(pos));
+        }
+        return index;
+    }
+
+    // Returns the type tag of the field ignoring nil, or -1 if the field can be mutated.
+    private int getIndexableFieldTypeTag(String fieldName) {
+        Type constraintType = type.getConstrainedType();
+        boolean readonly = type.isReadOnly();
+        Type fieldType;
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            BRecordType recordType = (BRecordType) constraintType;
+            Field field = recordType.getFields().get(fieldName);
+            if (field == null) {
+                return -1;
+            }
+            readonly |= recordType.isReadOnly() || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+            fieldType = field.getFieldType();
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+            fieldType = ((BMapType) constraintType).getConstrainedType();
+        } else {
+            return -1;
+        }
+
+        if (!readonly) {
+            return -1;
+        }
+        if (fieldType.getTag() != TypeTags.UNION_TAG) {
+            return fieldType.getTag();
+        }
+        int memberTypeTag = -1;
+        for (Type memberType : ((BUnionType) fieldType).getMemberTypes()) {
+            if (memberType.getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (memberTypeTag != -1 && memberTypeTag != memberType.getTag()) {
+                return -1;
+            }
+            memberTypeTag = memberType.getTag();
+        }
+        return memberTypeTag;
+    }
+
+    private void indexRow(long rowId, V row) {
+        for (TableIndex index : indexes) {
+            index.add(rowId, row);
+        }
+        for (TableIndex index : getOnDemandIndexes()) {
+            index.add(rowId, row);
+        }
+    }
+
+    private void unindexRow(long rowId, V row) {
+        for (TableIndex index : indexes) {
+            index.remove(rowId, row);
+        }
+        for (TableIndex index : getOnDemandIndexes()) {
+            index.remove(rowId, row);
+        }
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -285,17 +499,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!rows.isKeyed()) {
+            return (K[]) new Object[0];
+        }
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int pos = rows.nextPosition(0); pos < rows.used(); pos = rows.nextPosition(pos + 1)) {
+            keys[i++] = rows.keyAt(pos);
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -320,8 +542,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -331,21 +552,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
-                                              new CycleUtils.Node(this, parent)));
+        for (V struct : values()) {
+            sj.add(StringUtils.getStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -354,10 +572,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 keyJoiner.add(keysList[i]);
             }
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
-                                                        new CycleUtils.Node(this, parent)));
+        for (V struct : values()) {
+            sj.add(StringUtils.getExpressionStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
     }
@@ -385,40 +601,49 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
+    // Walks the rows in insertion order. Rows added during the iteration are visited as well, and the position is
+    // recomputed from the id of the last visited row if the rows were compacted in the meantime.
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private long lastRowId = -1;
+        private int layoutVersion;
 
         TableIterator() {
             this.cursor = 0;
+            this.layoutVersion = rows.layoutVersion();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            int pos = position();
+            K key = (K) rows.keyAt(pos);
+            V value = (V) rows.valueAt(pos);
+            lastRowId = rows.rowIdAt(pos);
+            cursor = pos + 1;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return position() < rows.used();
+        }
+
+        private int position() {
+            if (layoutVersion != rows.layoutVersion()) {
+                cursor = rows.positionAfter(lastRowId);
+                layoutVersion = rows.layoutVersion();
+            }
+            cursor = rows.nextPosition(cursor);
+            return cursor;
         }
     }
 
@@ -440,11 +665,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            rows.append(data);
+            if (hasIndexes()) {
+                indexRow(rows.rowIdAt(rows.used() - 1), data);
+            }
+            return null;
         }
 
         public V remove(K key) {
@@ -485,63 +710,63 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
-                maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
-            }
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            putRow(key, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int pos = rows.find(key);
+            return pos < 0 ? null : rows.valueAt(pos);
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putRow(key, data);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putRow(K key, V data) {
+            if (hasIndexes()) {
+                int pos = rows.find(key);
+                if (pos >= 0) {
+                    unindexRow(rows.rowIdAt(pos), rows.valueAt(pos));
+                }
+            }
+            V oldData = rows.put(key, data);
+            if (oldData == null && nextKeySupported) {
+                long intKey = TypeChecker.anyToInt(key);
+                if (rows.size() == 1 || maxIntKey < intKey) {
+                    maxIntKey = intKey;
+                }
+            }
+            if (hasIndexes()) {
+                indexRow(rows.rowIdAt(rows.find(key)), data);
+            }
+            return oldData;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putRow(key, data);
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            if (hasIndexes()) {
+                int pos = rows.find(key);
+                if (pos >= 0) {
+                    unindexRow(rows.rowIdAt(pos), rows.valueAt(pos));
+                }
             }
-            return values.remove(hash);
+            return rows.remove(key);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.find(key) >= 0;
         }
 
         public Type getKeyType() {
@@ -592,15 +817,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
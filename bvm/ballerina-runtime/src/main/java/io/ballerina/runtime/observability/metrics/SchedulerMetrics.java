@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.internal.scheduling.SchedulerStatistics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Publishes the statistics of the Ballerina scheduler as {@link PolledGauge}s in the {@link DefaultMetricRegistry}.
+ * The values are only computed when the gauges are polled by the metrics reporter.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics {
+
+    private static final double NANOS_PER_SECOND = 1E9;
+
+    private SchedulerMetrics() {
+    }
+
+    /**
+     * Registers the scheduler gauges in the {@link DefaultMetricRegistry}. Registering more than once has no effect.
+     */
+    public static void register() {
+        register(DefaultMetricRegistry.getInstance());
+    }
+
+    /**
+     * Registers the scheduler gauges in the given registry. Registering more than once has no effect.
+     *
+     * @param registry registry to register the gauges in
+     */
+    public static void register(MetricRegistry registry) {
+        SchedulerStatistics statistics = SchedulerStatistics.getInstance();
+        PolledGauge.builder("scheduler_runnable_queue_depth", statistics, SchedulerStatistics::getRunnableQueueDepth)
+                .description("Strand groups waiting to be executed by the scheduler").register(registry);
+        PolledGauge.builder("scheduler_active_strands", statistics, SchedulerStatistics::getActiveStrands)
+                .description("Strands that are scheduled and not completed").register(registry);
+        PolledGauge.builder("scheduler_parked_strands", statistics, SchedulerStatistics::getParkedStrands)
+                .description("Strands that are blocked and not waiting to be executed").register(registry);
+        PolledGauge.builder("scheduler_yields_per_second", new Rate(statistics::getYields), Rate::perSecond)
+                .description("Rate at which strands yield the scheduler workers").register(registry);
+        PolledGauge.builder("scheduler_blocked_on_extern_seconds_total", statistics,
+                            s -> s.getBlockedOnExternNanos() / NANOS_PER_SECOND)
+                .description("Total time strands were blocked on async external calls").register(registry);
+        PolledGauge.builder("scheduler_lock_wait_seconds_total", statistics,
+                            s -> s.getLockWaitNanos() / NANOS_PER_SECOND)
+                .description("Total time strands waited to acquire locks").register(registry);
+        PolledGauge.builder("scheduler_worker_utilization", new Rate(statistics::getBusyNanos),
+                            rate -> rate.perElapsedNano(statistics.getWorkers()))
+                .description("Fraction of time the scheduler workers spent running strands").register(registry);
+    }
+
+    /**
+     * Computes the rate of change of a monotonically increasing value between two polls.
+     */
+    private static class Rate {
+
+        private final LongSupplier value;
+        private long lastValue;
+        private long lastTime;
+
+        Rate(LongSupplier value) {
+            this.value = value;
+            this.lastValue = value.getAsLong();
+            this.lastTime = System.nanoTime();
+        }
+
+        synchronized double perSecond() {
+            return perElapsedNano(1) * NANOS_PER_SECOND;
+        }
+
+        synchronized double perElapsedNano(long divisor) {
+            long currentValue = value.getAsLong();
+            long currentTime = System.nanoTime();
+            long elapsed = currentTime - lastTime;
+            if (elapsed <= 0 || divisor <= 0) {
+                return 0;
+            }
+            double rate = (double) (currentValue - lastValue) / elapsed / divisor;
+            lastValue = currentValue;
+            lastTime = currentTime;
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the shared and the exclusive modes of {@link BLock class}.
+ *
+ * @since 2.0.0
+ */
+public class BLockTests {
+
+    // The scheduler is not started, the strands are only used to hold the lock.
+    private final Scheduler scheduler = new Scheduler(1, false);
+
+    @Test
+    void testReadersHoldLockTogether() throws Exception {
+        BLock lock = new BLock();
+        CountDownLatch firstReaderHolds = new CountDownLatch(1);
+        CountDownLatch secondReaderHolds = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Each reader releases the lock only after the other reader has acquired it, so neither of them can
+            // finish unless both hold the lock at the same time.
+            Future<Boolean> firstReader = executor.submit(
+                    () -> read(lock, createStrand("reader1"), firstReaderHolds, secondReaderHolds));
+            Future<Boolean> secondReader = executor.submit(
+                    () -> read(lock, createStrand("reader2"), secondReaderHolds, firstReaderHolds));
+            Assert.assertTrue(firstReader.get());
+            Assert.assertTrue(secondReader.get());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testWriterExcludesReaders() {
+        BLock lock = new BLock();
+        Strand writer = createStrand("writer");
+        Strand reader1 = createStrand("reader1");
+        Strand reader2 = createStrand("reader2");
+
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertFalse(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lockShared(reader2));
+        Assert.assertTrue(reader1.isBlocked());
+        Assert.assertTrue(reader2.isBlocked());
+
+        // Both the waiting readers are granted the lock when the writer releases it.
+        lock.unlock();
+        Assert.assertEquals(reader1.getState(), State.YIELD);
+        Assert.assertEquals(reader2.getState(), State.YIELD);
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+
+        // The writer waits until both the readers release the lock.
+        Assert.assertFalse(lock.lock(writer));
+        lock.unlockShared(reader1);
+        Assert.assertTrue(writer.isBlocked());
+        lock.unlockShared(reader2);
+        Assert.assertEquals(writer.getState(), State.YIELD);
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testReaderWaitsBehindWaitingWriter() {
+        BLock lock = new BLock();
+        Strand reader1 = createStrand("reader1");
+        Strand writer = createStrand("writer");
+        Strand reader2 = createStrand("reader2");
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer));
+        // A reader arriving after a waiting writer does not join the current reader.
+        Assert.assertFalse(lock.lockShared(reader2));
+
+        lock.unlockShared(reader1);
+        Assert.assertEquals(writer.getState(), State.YIELD);
+        Assert.assertTrue(reader2.isBlocked());
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertEquals(reader2.getState(), State.YIELD);
+        Assert.assertTrue(lock.lockShared(reader2));
+        lock.unlockShared(reader2);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private Strand createStrand(String name) {
+        return scheduler.schedule(new Object[1], params -> null, null, null, null, PredefinedTypes.TYPE_NULL, name,
+                                  null).strand;
+    }
+
+    private static boolean read(BLock lock, Strand strand, CountDownLatch holds, CountDownLatch otherHolds)
+            throws InterruptedException {
+        if (!lock.lockShared(strand)) {
+            return false;
+        }
+        holds.countDown();
+        try {
+            return otherHolds.await(10, TimeUnit.SECONDS);
+        } finally {
+            lock.unlockShared(strand);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.values.CompactHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link CompactHashMap class}.
+ *
+ * @since 2.0.0
+ */
+public class CompactHashMapTests {
+
+    @Test
+    void testInsertionOrderAfterRemoveAndReinsert() {
+        CompactHashMap<String, Integer> map = new CompactHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        Assert.assertEquals(map.remove("a"), Integer.valueOf(1));
+        map.put("a", 4);
+        map.put("b", 5);
+
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("b", "c", "a"));
+        Assert.assertEquals(new ArrayList<>(map.values()), Arrays.asList(5, 3, 4));
+        Assert.assertEquals(map.size(), 3);
+    }
+
+    @Test
+    void testResize() {
+        CompactHashMap<Integer, String> map = new CompactHashMap<>();
+        List<Integer> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 7919, "v" + i);
+            expectedKeys.add(i * 7919);
+        }
+
+        Assert.assertEquals(map.size(), 1000);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), expectedKeys);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(map.get(i * 7919), "v" + i);
+        }
+        Assert.assertNull(map.get(1));
+    }
+
+    @Test
+    void testCompactionKeepsOrder() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        for (int i = 0; i < 64; i++) {
+            map.put(i, i);
+        }
+        // Leave more tombstones than live entries, so that the next insertions compact the arrays in place.
+        for (int i = 0; i < 64; i++) {
+            if (i % 4 != 0) {
+                map.remove(i);
+            }
+        }
+        List<Integer> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 64; i += 4) {
+            expectedKeys.add(i);
+        }
+        for (int i = 100; i < 164; i++) {
+            map.put(i, -i);
+            expectedKeys.add(i);
+        }
+
+        Assert.assertEquals(map.size(), expectedKeys.size());
+        Assert.assertEquals(new ArrayList<>(map.keySet()), expectedKeys);
+        for (int key : expectedKeys) {
+            Assert.assertEquals(map.get(key), Integer.valueOf(key < 100 ? key : -key));
+        }
+        Assert.assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    void testEntryViewAfterCompaction() {
+        CompactHashMap<String, Integer> map = new CompactHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.put("d", 4);
+        Map.Entry<String, Integer> entry = null;
+        for (Map.Entry<String, Integer> e : map.entrySet()) {
+            if (e.getKey().equals("d")) {
+                entry = e;
+            }
+        }
+        map.remove("a");
+        map.remove("b");
+        map.remove("c");
+        map.put("e", 5);
+
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(entry.getValue(), Integer.valueOf(4));
+        Assert.assertEquals(entry.setValue(40), Integer.valueOf(4));
+        Assert.assertEquals(map.get("d"), Integer.valueOf(40));
+    }
+
+    @Test
+    void testNullKeysAndValues() {
+        CompactHashMap<String, String> map = new CompactHashMap<>();
+        map.put("a", null);
+        map.put(null, "b");
+
+        Assert.assertTrue(map.containsKey("a"));
+        Assert.assertNull(map.get("a"));
+        Assert.assertNull(map.getOrDefault("a", "default"));
+        Assert.assertEquals(map.getOrDefault("c", "default"), "default");
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals(map.get(null), "b");
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("a", null));
+
+        Assert.assertNull(map.remove("a"));
+        Assert.assertFalse(map.containsKey("a"));
+        Assert.assertFalse(map.containsValue(null));
+        Assert.assertEquals(map.remove(null), "b");
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testIteratorRemove() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i * i);
+        }
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() % 2 != 0) {
+                iterator.remove();
+            }
+        }
+
+        Assert.assertEquals(map.size(), 5);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList(0, 2, 4, 6, 8));
+        Assert.assertEquals(map.get(4), Integer.valueOf(16));
+
+        Iterator<Integer> keyIterator = map.keySet().iterator();
+        while (keyIterator.hasNext()) {
+            keyIterator.next();
+            keyIterator.remove();
+        }
+        Assert.assertTrue(map.isEmpty());
+        map.put(1, 1);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList(1));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    void testIteratorRemoveTwice() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        iterator.remove();
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    void testPutWhileIterating() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        for (Integer key : map.keySet()) {
+            map.put(key + 10, key);
+        }
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    void testRemoveWhileIterating() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        map.put(3, 3);
+        for (Integer key : map.values()) {
+            map.remove(3);
+        }
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    void testRemoveInForEach() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        map.forEach((key, value) -> map.remove(2));
+    }
+
+    @Test
+    void testUpdateWhileIterating() {
+        CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        for (Integer key : map.keySet()) {
+            // Updating the value of an existing key is not a structural modification.
+            map.put(key, key * 10);
+        }
+
+        Assert.assertEquals(new ArrayList<>(map.values()), Arrays.asList(10, 20));
+    }
+}
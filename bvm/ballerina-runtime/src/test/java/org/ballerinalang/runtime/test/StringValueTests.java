@@ -1,9 +1,23 @@
 package org.ballerinalang.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
+import io.ballerina.runtime.internal.values.StringValuePool;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 
 /**
  * Test cases for {@link io.ballerina.runtime.internal.values.StringValue class} implementations.
@@ -40,4 +54,125 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testUnicodeCodePointAfterConcat() {
+        BString concatenated = StringUtils.fromString("ab").concat(SUBJECT).concat(SUBJECT);
+        Assert.assertEquals(concatenated.length(), 34);
+        Assert.assertEquals(concatenated.getCodePoint(3), 0x1F6F8);
+        Assert.assertEquals(concatenated.getCodePoint(16), 0x1F47D);
+        Assert.assertEquals(concatenated.getCodePoint(19), 0x1F6F8);
+        Assert.assertEquals(concatenated.getCodePoint(32), 0x1F47D);
+        Assert.assertEquals(concatenated.getCodePoint(33), 'r');
+    }
+
+    @Test
+    void testLongConcatIsDeferred() {
+        BString concatenated = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            concatenated = concatenated.concat(StringUtils.fromString("part" + i)).concat(SUBJECT);
+            expected.append("part").append(i).append(UNICODE_STR);
+        }
+        Assert.assertTrue(concatenated instanceof RopeStringValue);
+        Assert.assertEquals(concatenated.getValue(), expected.toString());
+        Assert.assertEquals(concatenated.length(), expected.codePointCount(0, expected.length()));
+        Assert.assertEquals(concatenated.getCodePoint(concatenated.length() - 2), 0x1F47D);
+        Assert.assertEquals(concatenated, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(concatenated.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatAfterFlatten() {
+        // Long enough for the concatenations to be deferred.
+        BString part = StringUtils.fromString("x".repeat(300));
+        BString first = part.concat(SUBJECT);
+        Assert.assertEquals(first.getValue(), part.getValue() + UNICODE_STR);
+        // The flattened rope is concatenated after its children are released.
+        BString second = first.concat(first).concat(part);
+        Assert.assertTrue(second instanceof RopeStringValue);
+        Assert.assertEquals(second.getValue(), part.getValue() + UNICODE_STR + part.getValue() + UNICODE_STR +
+                part.getValue());
+        Assert.assertEquals(first.getValue(), part.getValue() + UNICODE_STR);
+        Assert.assertEquals(second.length(), first.length() * 2 + part.length());
+    }
+
+    @Test
+    void testConcurrentFlatten() throws Exception {
+        List<BString> ropes = new ArrayList<>();
+        BString concatenated = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            concatenated = concatenated.concat(StringUtils.fromString("part" + i)).concat(SUBJECT);
+            expected.append("part").append(i).append(UNICODE_STR);
+            ropes.add(concatenated);
+        }
+        String expectedValue = expected.toString();
+
+        // The inner ropes are flattened while the outer ropes are being flattened.
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                int offset = i;
+                Callable<Boolean> flatten = () -> {
+                    for (int j = ropes.size() - 1 - offset; j >= 0; j -= 8) {
+                        BString rope = ropes.get(j);
+                        if (!expectedValue.startsWith(rope.getValue())) {
+                            return false;
+                        }
+                    }
+                    return ropes.get(ropes.size() - 1).getValue().equals(expectedValue);
+                };
+                results.add(executor.submit(flatten));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testIndexesAfterManyNonBmp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append(UNICODE_STR);
+        }
+        String value = builder.append("target").toString();
+        BString subject = StringUtils.fromString(value);
+        int targetIndex = value.codePointCount(0, value.length()) - 6;
+        Assert.assertEquals(subject.indexOf(StringUtils.fromString("target"), 0).longValue(), targetIndex);
+        Assert.assertEquals(subject.lastIndexOf(StringUtils.fromString("target"), targetIndex).longValue(),
+                            targetIndex);
+        Assert.assertEquals(subject.getCodePoint(targetIndex - 2), 0x1F47D);
+        Assert.assertEquals(subject.substring(targetIndex - 2, targetIndex + 6).getValue(), "\uD83D\uDC7Drtarget");
+    }
+
+    @Test
+    void testFieldNamesAreShared() {
+        BArray parsed = (BArray) JsonParser.parse("[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}]");
+        BString[] firstKeys = ((BMap<BString, ?>) parsed.get(0)).getKeys();
+        BString[] secondKeys = ((BMap<BString, ?>) parsed.get(1)).getKeys();
+        Assert.assertSame(firstKeys[0], secondKeys[0]);
+        Assert.assertSame(firstKeys[1], secondKeys[1]);
+        Assert.assertEquals(firstKeys[0], StringValuePool.intern("id"));
+        Assert.assertEquals(StringValuePool.intern(UNICODE_STR), SUBJECT);
+    }
+
+    @Test
+    void testFieldNamesAreSharedAfterManyDistinctNames() {
+        StringBuilder json = new StringBuilder("[{");
+        for (int i = 0; i < 100000; i++) {
+            json.append(i == 0 ? "" : ",").append("\"key").append(i).append("\": ").append(i);
+        }
+        json.append("}, {\"id\": 1, \"key1\": 2}, {\"id\": 3, \"key1\": 4}]");
+        BArray parsed = (BArray) JsonParser.parse(json.toString());
+        Assert.assertEquals(((BMap<BString, ?>) parsed.get(0)).size(), 100000);
+        BString[] firstKeys = ((BMap<BString, ?>) parsed.get(1)).getKeys();
+        BString[] secondKeys = ((BMap<BString, ?>) parsed.get(2)).getKeys();
+        Assert.assertEquals(firstKeys, new BString[]{StringUtils.fromString("id"), StringUtils.fromString("key1")});
+        Assert.assertSame(firstKeys[0], secondKeys[0]);
+        Assert.assertSame(firstKeys[1], secondKeys[1]);
+    }
 }
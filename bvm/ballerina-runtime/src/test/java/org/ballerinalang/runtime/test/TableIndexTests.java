@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_ERROR;
+
+/**
+ * Test cases for the secondary indexes of {@link TableValueImpl class}.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString DEPT = StringUtils.fromString("dept");
+    private static final BString RATING = StringUtils.fromString("rating");
+    private static final BString ACTIVE = StringUtils.fromString("active");
+    private static final BString TITLE = StringUtils.fromString("title");
+
+    private static final long READONLY_FIELD = SymbolFlags.READONLY | SymbolFlags.REQUIRED;
+    private static final RecordType EMPLOYEE_TYPE = createEmployeeType();
+    private static final TableType EMPLOYEE_TABLE_TYPE =
+            TypeCreator.createTableType(EMPLOYEE_TYPE, new String[]{"id"}, false);
+
+    // Enough rows for the index to be created on demand.
+    private static final int ROW_COUNT = 2000;
+
+    @Test
+    void testEqualityLookup() {
+        TableValueImpl<Object, Object> table = createTable(100);
+        table.addIndex(DEPT, false);
+        table.addIndex(NAME, false);
+        table.addIndex(ACTIVE, false);
+
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 3L)), expectedIds(table, DEPT, 3L));
+        Assert.assertEquals(ids(table.lookUpIndex(NAME, StringUtils.fromString("emp7"))), List.of(7L, 27L, 47L, 67L,
+                                                                                                    87L));
+        Assert.assertEquals(ids(table.lookUpIndex(ACTIVE, true)), expectedIds(table, ACTIVE, true));
+        Assert.assertEquals(table.lookUpIndex(DEPT, 42L).length, 0);
+        // A value of another type cannot be looked up in the index.
+        Assert.assertNull(table.lookUpIndex(DEPT, StringUtils.fromString("3")));
+    }
+
+    @Test
+    void testRangeLookup() {
+        TableValueImpl<Object, Object> table = createTable(100);
+        table.addIndex(ID, true);
+        table.addIndex(RATING, true);
+        table.addIndex(NAME, true);
+
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 10L, true, 13L, false)), List.of(10L, 11L, 12L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 97L, false, null, false)), List.of(98L, 99L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, null, false, 1L, true)), List.of(0L, 1L));
+        Assert.assertEquals(table.lookUpIndex(ID, 13L, true, 10L, true).length, 0);
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 0; id < 100; id++) {
+            if (rating(id) > 2.0) {
+                expected.add(id);
+            }
+        }
+        Assert.assertEquals(ids(table.lookUpIndex(RATING, 2.0, false, null, false)), expected);
+        Assert.assertEquals(table.lookUpIndex(RATING, Double.NaN, true, null, false).length, 0);
+
+        // Strings are ordered by their code points, and the rows are returned in table order.
+        Assert.assertEquals(ids(table.lookUpIndex(NAME, StringUtils.fromString("emp18"), true,
+                                                  StringUtils.fromString("emp2"), true)),
+                            List.of(2L, 18L, 19L, 22L, 38L, 39L, 42L, 58L, 59L, 62L, 78L, 79L, 82L, 98L, 99L));
+    }
+
+    @Test
+    void testIndexNotSupported() {
+        TableValueImpl<Object, Object> table = createTable(10);
+        assertIndexNotSupported(table, TITLE, false);
+        assertIndexNotSupported(table, ACTIVE, true);
+        assertIndexNotSupported(table, StringUtils.fromString("unknown"), false);
+        Assert.assertNull(table.lookUpIndex(TITLE, StringUtils.fromString("engineer")));
+    }
+
+    @Test
+    void testIndexCreatedOnDemand() {
+        TableValueImpl<Object, Object> smallTable = createTable(10);
+        Assert.assertFalse(smallTable.prepareIndex(DEPT, false));
+
+        TableValueImpl<Object, Object> table = createTable(ROW_COUNT);
+        Assert.assertFalse(table.prepareIndex(TITLE, false));
+        Assert.assertTrue(table.prepareIndex(DEPT, false));
+        Assert.assertTrue(table.prepareIndex(ID, true));
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 5L)), expectedIds(table, DEPT, 5L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 1997L, false, null, false)), List.of(1998L, 1999L));
+
+        // Adding the index explicitly keeps the index created on demand up to date.
+        table.addIndex(DEPT, false);
+        table.add(createEmployee(ROW_COUNT, 5L));
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 5L)), expectedIds(table, DEPT, 5L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 1997L, false, null, false)), List.of(1998L, 1999L, 2000L));
+    }
+
+    @Test
+    void testLookupAfterMutation() {
+        TableValueImpl<Object, Object> table = createTable(100);
+        table.addIndex(DEPT, false);
+        table.addIndex(ID, true);
+
+        table.add(createEmployee(100, 4L));
+        table.remove(14L);
+        table.put(createEmployee(24, 5L));
+        table.put(createEmployee(35, 4L));
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 4L)), List.of(4L, 34L, 35L, 44L, 54L, 64L, 74L, 84L, 94L,
+                                                                      100L));
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 4L)), expectedIds(table, DEPT, 4L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 13L, true, 15L, true)), List.of(13L, 15L));
+
+        table.clear();
+        Assert.assertEquals(table.lookUpIndex(DEPT, 4L).length, 0);
+        table.add(createEmployee(1, 4L));
+        Assert.assertEquals(ids(table.lookUpIndex(DEPT, 4L)), List.of(1L));
+        Assert.assertEquals(ids(table.lookUpIndex(ID, 0L, true, null, false)), List.of(1L));
+    }
+
+    @Test
+    void testConcurrentLookups() throws Exception {
+        TableValueImpl<Object, Object> table = createTable(ROW_COUNT);
+        List<List<Long>> expected = new ArrayList<>();
+        for (long dept = 0; dept < 10; dept++) {
+            expected.add(expectedIds(table, DEPT, dept));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                long dept = i % 10;
+                Callable<Boolean> query = () -> table.prepareIndex(DEPT, false) && table.prepareIndex(ID, true) &&
+                        ids(table.lookUpIndex(DEPT, dept)).equals(expected.get((int) dept)) &&
+                        table.lookUpIndex(ID, 0L, true, null, false).length == ROW_COUNT;
+                results.add(executor.submit(query));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertIndexNotSupported(TableValueImpl<Object, Object> table, BString fieldName,
+                                                boolean sorted) {
+        try {
+            table.addIndex(fieldName, sorted);
+            Assert.fail("index should not be created on field '" + fieldName + "'");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage(), OPERATION_NOT_SUPPORTED_ERROR);
+        }
+    }
+
+    private static RecordType createEmployeeType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", READONLY_FIELD));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", READONLY_FIELD));
+        fields.put("dept", TypeCreator.createField(PredefinedTypes.TYPE_INT, "dept", READONLY_FIELD));
+        fields.put("rating", TypeCreator.createField(PredefinedTypes.TYPE_FLOAT, "rating", READONLY_FIELD));
+        fields.put("active", TypeCreator.createField(PredefinedTypes.TYPE_BOOLEAN, "active", READONLY_FIELD));
+        fields.put("title", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "title", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType("Employee", new Module("testorg", "test", "1.0.0"), 0, fields, null,
+                                            true, 0);
+    }
+
+    private static TableValueImpl<Object, Object> createTable(int rowCount) {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(EMPLOYEE_TABLE_TYPE);
+        for (long id = 0; id < rowCount; id++) {
+            table.add(createEmployee(id, id % 10));
+        }
+        return table;
+    }
+
+    private static MapValueImpl<BString, Object> createEmployee(long id, long dept) {
+        MapValueImpl<BString, Object> employee = new MapValueImpl<>(EMPLOYEE_TYPE);
+        employee.put(ID, id);
+        employee.put(NAME, StringUtils.fromString("emp" + (id % 20)));
+        employee.put(DEPT, dept);
+        employee.put(RATING, rating(id));
+        employee.put(ACTIVE, id % 3 == 0);
+        employee.put(TITLE, StringUtils.fromString("engineer"));
+        return employee;
+    }
+
+    private static double rating(long id) {
+        return (id % 7) / 2.0;
+    }
+
+    private static List<Long> expectedIds(TableValueImpl<Object, Object> table, BString fieldName, Object value) {
+        List<Long> ids = new ArrayList<>();
+        for (Object row : table.values()) {
+            MapValueImpl<?, ?> employee = (MapValueImpl<?, ?>) row;
+            if (employee.get(fieldName).equals(value)) {
+                ids.add((Long) employee.get(ID));
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(Object[] rows) {
+        List<Long> ids = new ArrayList<>();
+        for (Object row : rows) {
+            ids.add((Long) ((MapValueImpl<?, ?>) row).get(ID));
+        }
+        return ids;
+    }
+}
@@ -2592,9 +2592,11 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_STORE;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldStore =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, varRefRegIndex, keyRegIndex,
-                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation));
+                            rhsOp, astIndexBasedAccessExpr.isStoreOnCreation);
+            fieldStore.fieldName = getAccessedFieldName(astIndexBasedAccessExpr.indexExpr);
+            setScopeAndEmit(fieldStore);
         } else {
             BIRVariableDcl tempVarDcl = new BIRVariableDcl(astIndexBasedAccessExpr.type, this.env.nextLocalVarId(names),
                     VarScope.FUNCTION, VarKind.TEMP);
@@ -2623,15 +2625,24 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_LOAD;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldLoad =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, tempVarRef, keyRegIndex,
                             varRefRegIndex, except,
-                            astIndexBasedAccessExpr.lhsVar && !astIndexBasedAccessExpr.leafNode));
+                            astIndexBasedAccessExpr.lhsVar && !astIndexBasedAccessExpr.leafNode);
+            fieldLoad.fieldName = getAccessedFieldName(astIndexBasedAccessExpr.indexExpr);
+            setScopeAndEmit(fieldLoad);
             this.env.targetOperand = tempVarRef;
         }
         this.varAssignment = variableStore;
     }
 
+    private String getAccessedFieldName(BLangExpression indexExpr) {
+        if (indexExpr.getKind() == NodeKind.LITERAL && ((BLangLiteral) indexExpr).value instanceof String) {
+            return (String) ((BLangLiteral) indexExpr).value;
+        }
+        return null;
+    }
+
     private BTypeSymbol getObjectTypeSymbol(BType type) {
         if (type.tag == TypeTags.UNION) {
             return ((BUnionType) type).getMemberTypes().stream()
@@ -48,7 +48,6 @@ import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.T_INT;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_INIT_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
@@ -56,6 +55,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ST
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NON_BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE_POOL;
 
 /**
  * Generates Jvm class for the ballerina string constants for given module.
@@ -163,11 +163,12 @@ public class JvmBStringConstantsGen {
     }
 
     private void createBmpString(MethodVisitor mv, String val, String varName) {
-        mv.visitTypeInsn(NEW, BMP_STRING_VALUE);
-        mv.visitInsn(DUP);
+        // Short constants are interned, so that a constant used as a field name is the same instance as the keys of
+        // the records created by the runtime, e.g. from the default values of a record type, and as the same constant
+        // of other modules. Map lookups match such keys by reference. The JSON parser does not use the pool.
         mv.visitLdcInsn(val);
-        mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD,
-                           String.format("(L%s;)V", STRING_VALUE), false);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_VALUE_POOL, "intern",
+                           String.format("(L%s;)L%s;", STRING_VALUE, B_STRING_VALUE), false);
         mv.visitFieldInsn(Opcodes.PUTSTATIC, stringConstantsClass, varName, String.format("L%s;", B_STRING_VALUE));
     }
 
@@ -39,7 +39,10 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
@@ -65,6 +68,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -88,6 +92,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -113,6 +118,7 @@ import static org.objectweb.asm.Opcodes.LSUB;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -121,6 +127,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
@@ -1195,12 +1202,29 @@ public class JvmInstructionGen {
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
+        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
+
+        // store values of simple basic types in record fields unboxed, through the setter of the field
+        Label endLabel = new Label();
+        BField field = mapStoreIns.onInitialization ? null : getValueClassField(varRefType, mapStoreIns.fieldName);
+        if (field != null && JvmValueGen.hasFieldSetMethod(field) && valueType.tag == field.type.tag) {
+            String className = getTypeValueClassName(varRefType.tsymbol.pkgID, toNameString(varRefType));
+            Label genericStoreLabel = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.loadVar(mapStoreIns.rhsOp.variableDcl);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, className, JvmValueGen.getFieldSetMethodName(field.name.value),
+                                    String.format("(%s)V", getTypeDesc(field.type)), false);
+            this.mv.visitJumpInsn(GOTO, endLabel);
+            this.mv.visitLabel(genericStoreLabel);
+        }
 
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
         // visit value_expr
-        BType valueType = mapStoreIns.rhsOp.variableDcl.type;
         this.loadVar(mapStoreIns.rhsOp.variableDcl);
         jvmCastGen.addBoxInsn(this.mv, valueType);
 
@@ -1216,6 +1240,7 @@ public class JvmInstructionGen {
                                              MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+        this.mv.visitLabel(endLabel);
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
@@ -1223,6 +1248,13 @@ public class JvmInstructionGen {
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+
+        Label endLabel = new Label();
+        BField field = mapLoadIns.fillingRead ? null : getValueClassField(varRefType, mapLoadIns.fieldName);
+        if (field != null && !isOptionalField(field)) {
+            generateValueClassFieldLoad(varRefType, field, targetType, endLabel);
+        }
 
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
@@ -1249,15 +1281,24 @@ public class JvmInstructionGen {
             }
         }
 
-        // store in the target reg
-        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
+
+        // store in the target reg
+        this.mv.visitLabel(endLabel);
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
+        BType varRefType = objectLoadIns.rhsOp.variableDcl.type;
+        BType targetType = objectLoadIns.lhsOp.variableDcl.type;
+
+        Label endLabel = new Label();
+        BField field = getValueClassField(varRefType, objectLoadIns.fieldName);
+        if (field != null) {
+            generateValueClassFieldLoad(varRefType, field, targetType, endLabel);
+        }
 
         // visit key_expr
         this.loadVar(objectLoadIns.keyOp.variableDcl);
@@ -1265,22 +1306,39 @@ public class JvmInstructionGen {
         // invoke get() method, and unbox if needed
         this.mv.visitMethodInsn(INVOKEINTERFACE, B_OBJECT, "get",
                                 String.format("(L%s;)L%s;", JvmConstants.B_STRING_VALUE, OBJECT), true);
-        BType targetType = objectLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
 
         // store in the target reg
+        this.mv.visitLabel(endLabel);
         this.storeToVar(objectLoadIns.lhsOp.variableDcl);
     }
 
     void generateObjectStoreIns(BIRNonTerminator.FieldAccess objectStoreIns) {
         // visit object_ref
         this.loadVar(objectStoreIns.lhsOp.variableDcl);
+        BType varRefType = objectStoreIns.lhsOp.variableDcl.type;
+        BType valueType = objectStoreIns.rhsOp.variableDcl.type;
+
+        Label endLabel = new Label();
+        BField field = getValueClassField(varRefType, objectStoreIns.fieldName);
+        if (field != null && canStoreToValueClassField(varRefType, field, valueType,
+                                                       objectStoreIns.onInitialization)) {
+            String className = getTypeValueClassName(varRefType.tsymbol.pkgID, toNameString(varRefType));
+            Label genericStoreLabel = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.loadVar(objectStoreIns.rhsOp.variableDcl);
+            this.mv.visitFieldInsn(PUTFIELD, className, field.name.value, getTypeDesc(field.type));
+            this.mv.visitJumpInsn(GOTO, endLabel);
+            this.mv.visitLabel(genericStoreLabel);
+        }
 
         // visit key_expr
         this.loadVar(objectStoreIns.keyOp.variableDcl);
 
         // visit value_expr
-        BType valueType = objectStoreIns.rhsOp.variableDcl.type;
         this.loadVar(objectStoreIns.rhsOp.variableDcl);
         jvmCastGen.addBoxInsn(this.mv, valueType);
 
@@ -1291,11 +1349,76 @@ public class JvmInstructionGen {
                                     getTypeValueClassName(JvmCodeGenUtil.getPackageName(objectType.tsymbol.pkgID),
                                                           toNameString(objectType)), "setOnInitialization",
                                     String.format("(L%s;L%s;)V", JvmConstants.B_STRING_VALUE, OBJECT), false);
-            return;
+        } else {
+            this.mv.visitMethodInsn(INVOKEINTERFACE, B_OBJECT, "set",
+                                    String.format("(L%s;L%s;)V", JvmConstants.B_STRING_VALUE, OBJECT), true);
+        }
+        this.mv.visitLabel(endLabel);
+    }
+
+    /**
+     * Returns the field of the given object or record type which can be accessed directly in the value class
+     * generated for the type. Only the value classes of the current module are accessed directly, since the fields
+     * of the value classes are package private.
+     *
+     * @param varRefType static type of the accessed value
+     * @param fieldName  name of the accessed field, or null if the field is not known at compile time
+     * @return the field, or null if the field should be accessed through the generic accessors
+     */
+    private BField getValueClassField(BType varRefType, String fieldName) {
+        if (fieldName == null || (varRefType.tag != TypeTags.OBJECT && varRefType.tag != TypeTags.RECORD) ||
+                !currentPackage.equals(varRefType.tsymbol.pkgID) || !jvmPackageGen.hasValueClass(varRefType)) {
+            return null;
+        }
+        for (BField field : ((BStructureType) varRefType).fields.values()) {
+            if (field != null && IdentifierUtils.decodeIdentifier(field.name.value).equals(fieldName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Loads the field of the value on top of the stack from the value class of its static type, if the value is an
+     * instance of the value class, and jumps to the end label. Otherwise the value is left on the stack to load the
+     * field through the generic accessor.
+     */
+    private void generateValueClassFieldLoad(BType varRefType, BField field, BType targetType, Label endLabel) {
+        String className = getTypeValueClassName(varRefType.tsymbol.pkgID, toNameString(varRefType));
+        String fieldDesc = getTypeDesc(field.type);
+        Label genericLoadLabel = new Label();
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, fieldDesc);
+        if (!fieldDesc.equals(getTypeDesc(targetType))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.mv.visitJumpInsn(GOTO, endLabel);
+        this.mv.visitLabel(genericLoadLabel);
+    }
+
+    /**
+     * Checks whether a value can be stored in the field of an object without the checks done by the generic setter,
+     * i.e. the object is not read-only, the field is not final and the value is of a simple basic type which belongs
+     * to the type of the field.
+     */
+    private boolean canStoreToValueClassField(BType varRefType, BField field, BType valueType,
+                                              boolean onInitialization) {
+        if (Symbols.isFlagOn(varRefType.flags, Flags.READONLY)) {
+            return false;
         }
+        if (!onInitialization && (Symbols.isFlagOn(field.symbol.flags, Flags.FINAL) ||
+                Symbols.isFlagOn(field.symbol.flags, Flags.READONLY))) {
+            return false;
+        }
+        return valueType.tag == field.type.tag && JvmValueGen.isSimpleBasicType(valueType);
+    }
 
-        this.mv.visitMethodInsn(INVOKEINTERFACE, B_OBJECT, "set",
-                                String.format("(L%s;L%s;)V", JvmConstants.B_STRING_VALUE, OBJECT), true);
+    private static boolean isOptionalField(BField field) {
+        return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
     void generateStringLoadIns(BIRNonTerminator.FieldAccess stringLoadIns) {
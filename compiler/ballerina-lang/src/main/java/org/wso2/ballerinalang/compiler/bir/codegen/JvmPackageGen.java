@@ -67,6 +67,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -133,6 +134,7 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Map<String, PackageID> dependentModules;
+    private final Set<BType> valueClassTypes;
     private final BLangDiagnosticLog dlog;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
@@ -140,6 +142,7 @@ public class JvmPackageGen {
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashMap<>();
+        valueClassTypes = new HashSet<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -587,10 +590,14 @@ public class JvmPackageGen {
 
         for (BIRTypeDefinition optionalTypeDef : typeDefs) {
             BType bType = optionalTypeDef.type;
+            if (bType.tag == TypeTags.RECORD) {
+                valueClassTypes.add(bType);
+            }
 
             if ((bType.tag != TypeTags.OBJECT || !Symbols.isFlagOn(bType.tsymbol.flags, Flags.CLASS))) {
                 continue;
             }
+            valueClassTypes.add(bType);
 
             List<BIRFunction> attachedFuncs = optionalTypeDef.attachedFuncs;
             String typeName = toNameString(bType);
@@ -743,6 +750,18 @@ public class JvmPackageGen {
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        valueClassTypes.clear();
+    }
+
+    /**
+     * Checks whether a value class is generated for the given type, i.e. whether the type is a record type or a class
+     * defined in a type definition of a linked module.
+     *
+     * @param type the type
+     * @return true if values of the type are instances of a generated value class
+     */
+    boolean hasValueClass(BType type) {
+        return valueClassTypes.contains(type);
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -70,6 +70,7 @@ import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DLOAD;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.DUP2;
 import static org.objectweb.asm.Opcodes.GETFIELD;
@@ -86,6 +87,7 @@ import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.L2I;
+import static org.objectweb.asm.Opcodes.LLOAD;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
@@ -105,12 +107,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.COLLECTIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_STRING_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_SIMPLE_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
@@ -119,6 +121,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_BUILDER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_CLASS_PREFIX;
@@ -666,6 +669,7 @@ class JvmValueGen {
         this.createRecordFields(cw, fields);
         this.createRecordGetMethod(cw, fields, className, jvmCastGen);
         this.createRecordSetMethod(cw, fields, className, jvmCastGen);
+        this.createRecordFieldSetMethods(cw, fields, className, jvmCastGen);
         this.createRecordEntrySetMethod(cw, fields, className, jvmCastGen);
         this.createRecordContainsKeyMethod(cw, fields, className);
         this.createRecordGetValuesMethod(cw, fields, className, jvmCastGen);
@@ -946,6 +950,96 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
+    /**
+     * Creates a setter for each field which holds values of a simple basic type, which takes the value unboxed. The
+     * caller should ensure that the value belongs to the type of the field, since the type is not checked unless the
+     * record is read-only, in which case the update is done through the generic store to report the error.
+     */
+    private void createRecordFieldSetMethods(ClassWriter cw, Map<String, BField> fields, String className,
+                                             JvmCastGen jvmCastGen) {
+
+        for (BField field : fields.values()) {
+            if (field == null || !hasFieldSetMethod(field)) {
+                continue;
+            }
+            String fieldName = field.name.value;
+            String fieldDesc = getTypeDesc(field.type);
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, getFieldSetMethodName(fieldName),
+                                              String.format("(%s)V", fieldDesc), null, null);
+            mv.visitCode();
+
+            Label updateLabel = new Label();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKEVIRTUAL, className, "isFrozen", "()Z", false);
+            mv.visitJumpInsn(IFEQ, updateLabel);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitLdcInsn(decodeIdentifier(fieldName));
+            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
+                               String.format("(L%s;)L%s;", STRING_VALUE, B_STRING_VALUE), false);
+            mv.visitVarInsn(getLoadOpcode(fieldDesc), 1);
+            jvmCastGen.addBoxInsn(mv, field.type);
+            mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore",
+                               String.format("(L%s;L%s;L%s;)V", MAP_VALUE, B_STRING_VALUE, OBJECT), false);
+            mv.visitInsn(RETURN);
+
+            mv.visitLabel(updateLabel);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(getLoadOpcode(fieldDesc), 1);
+            mv.visitFieldInsn(PUTFIELD, className, fieldName, fieldDesc);
+            if (this.isOptionalRecordField(field)) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(ICONST_1);
+                mv.visitFieldInsn(PUTFIELD, className, this.getFieldIsPresentFlagName(fieldName),
+                                  getTypeDesc(booleanType));
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+    }
+
+    private static int getLoadOpcode(String typeDesc) {
+        switch (typeDesc.charAt(0)) {
+            case 'J':
+                return LLOAD;
+            case 'D':
+                return DLOAD;
+            case 'I':
+            case 'Z':
+                return ILOAD;
+            default:
+                return ALOAD;
+        }
+    }
+
+    /**
+     * Checks whether the value class of a record has a setter which takes the value of the given field unboxed.
+     *
+     * @param field the record field
+     * @return true if the field is not read-only and its type is a simple basic type
+     */
+    static boolean hasFieldSetMethod(BField field) {
+        return !Symbols.isFlagOn(field.symbol.flags, Flags.READONLY) && isSimpleBasicType(field.type);
+    }
+
+    static String getFieldSetMethodName(String fieldName) {
+        return String.format("%s$set", fieldName);
+    }
+
+    static boolean isSimpleBasicType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.BOOLEAN:
+            case TypeTags.STRING:
+            case TypeTags.DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private void createRecordPutDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex,
                                             int valueRegIndex) {
 
@@ -1021,7 +1115,7 @@ class JvmValueGen {
         // Add all from super.enrtySet() to the current entry set.
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "entrySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1302,7 +1396,7 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "keySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
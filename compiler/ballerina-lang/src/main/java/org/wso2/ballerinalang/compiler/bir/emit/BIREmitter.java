@@ -78,6 +78,7 @@ public class BIREmitter {
     public BLangPackage emit(BLangPackage bLangPackage) {
         if (dumbBIR) {
             console.println(emitModule(bLangPackage.symbol.bir));
+            console.println(emitRemovedTypeChecks(bLangPackage.symbol.bir));
         }
         if (dumpBIRFile != null) {
             try {
@@ -89,6 +90,11 @@ public class BIREmitter {
         return bLangPackage;
     }
 
+    private String emitRemovedTypeChecks(BIRNode.BIRPackage mod) {
+        return "Removed " + mod.removedTypeCheckCount + " redundant type checks in module " +
+                emitName(mod.packageID.orgName) + "/" + emitName(mod.packageID.name);
+    }
+
     private String emitModule(BIRNode.BIRPackage mod) {
 
         String modStr = "================ Emitting Module ================";
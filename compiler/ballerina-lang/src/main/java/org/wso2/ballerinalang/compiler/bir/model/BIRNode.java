@@ -63,6 +63,8 @@ public abstract class BIRNode {
         public final List<BIRAnnotation> annotations;
         public final List<BIRConstant> constants;
         public boolean isListenerAvailable;
+        // Number of redundant type checks removed by the optimizer, printed when the BIR is dumped.
+        public int removedTypeCheckCount;
 
         public BIRPackage(Location pos, Name org, Name name, Name version,
                           Name sourceFileName) {
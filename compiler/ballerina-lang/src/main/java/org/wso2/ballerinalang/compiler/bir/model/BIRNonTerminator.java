@@ -314,6 +314,9 @@ public abstract class BIRNonTerminator extends BIRAbstractInstruction implements
         public boolean optionalFieldAccess = false;
         public boolean fillingRead = false;
         public boolean onInitialization = false;
+        // Name of the accessed field when the key is a string literal. This is not serialized, since it is only used
+        // by the code generation of the module being compiled.
+        public String fieldName;
 
         public FieldAccess(Location pos, InstructionKind kind,
                            BIROperand lhsOp, BIROperand keyOp, BIROperand rhsOp) {
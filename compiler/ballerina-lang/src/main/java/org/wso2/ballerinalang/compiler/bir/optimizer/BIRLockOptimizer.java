@@ -19,11 +19,18 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +43,30 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    /**
+     * Instructions that do not mutate any value, other than assigning to their lhs operand.
+     */
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.STRING_LOAD, InstructionKind.MAP_LOAD,
+            InstructionKind.ARRAY_LOAD, InstructionKind.OBJECT_LOAD, InstructionKind.TABLE_LOAD,
+            InstructionKind.XML_SEQ_LOAD, InstructionKind.XML_LOAD, InstructionKind.XML_LOAD_ALL,
+            InstructionKind.XML_ATTRIBUTE_LOAD, InstructionKind.TYPE_CAST, InstructionKind.IS_LIKE,
+            InstructionKind.TYPE_TEST, InstructionKind.TYPEOF, InstructionKind.ADD, InstructionKind.SUB,
+            InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD, InstructionKind.EQUAL,
+            InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN, InstructionKind.GREATER_EQUAL,
+            InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL, InstructionKind.AND, InstructionKind.OR,
+            InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.NOT, InstructionKind.NEGATE,
+            InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR, InstructionKind.BITWISE_XOR,
+            InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
+    /**
+     * Terminators that do not call into other code, which may mutate the locked variables.
+     */
+    private static final Set<InstructionKind> READ_ONLY_TERMINATORS = EnumSet.of(
+            InstructionKind.GOTO, InstructionKind.BRANCH, InstructionKind.RETURN, InstructionKind.PANIC,
+            InstructionKind.LOCK, InstructionKind.UNLOCK);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
@@ -170,7 +201,61 @@ public class BIRLockOptimizer extends BIRVisitor {
 
     @Override
     public void visit(BIRNode.BIRFunction birFunction) {
+        int firstLockIndex = lockList.size();
         birFunction.basicBlocks.forEach(bb -> bb.accept(this));
+
+        // Blocks reached through a trap are not visible via the terminators, hence locks in functions with traps are
+        // always considered as mutating.
+        if (!birFunction.errorTable.isEmpty()) {
+            return;
+        }
+        for (int i = firstLockIndex; i < lockList.size(); i++) {
+            BIRTerminator.Lock lock = lockList.get(i);
+            lock.readOnly = isReadOnlyLock(lock);
+        }
+    }
+
+    private boolean isReadOnlyLock(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> toVisit = new ArrayDeque<>();
+        toVisit.push(lock.lockedBB);
+        while (!toVisit.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = toVisit.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            if (!READ_ONLY_TERMINATORS.contains(terminator.kind)) {
+                return false;
+            }
+            if (terminator.kind == InstructionKind.UNLOCK && ((BIRTerminator.Unlock) terminator).relatedLock == lock) {
+                // end of the locked block
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock nextBasicBlock : terminator.getNextBasicBlocks()) {
+                toVisit.push(nextBasicBlock);
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind)) {
+            return false;
+        }
+        if (instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL) {
+            return false;
+        }
+        // filling reads add the missing member to the container
+        return !(instruction instanceof BIRNonTerminator.FieldAccess) ||
+                !((BIRNonTerminator.FieldAccess) instruction).fillingRead;
     }
 
     @Override
@@ -33,6 +33,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -53,6 +54,7 @@ public class BIROptimizer {
     private final RHSTempVarOptimizer rhsTempVarOptimizer;
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
+    private final BIRTypeCheckOptimizer typeCheckOptimizer;
     private final BirVariableOptimizer variableOptimizer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
@@ -69,6 +71,7 @@ public class BIROptimizer {
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
+        this.typeCheckOptimizer = new BIRTypeCheckOptimizer(Types.getInstance(context));
         this.variableOptimizer = new BirVariableOptimizer();
     }
 
@@ -81,6 +84,9 @@ public class BIROptimizer {
 
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
+
+        // Remove type checks of values whose types are already known
+        this.typeCheckOptimizer.optimizeNode(pkg);
         variableOptimizer.optimizeNode(pkg);
     }
 
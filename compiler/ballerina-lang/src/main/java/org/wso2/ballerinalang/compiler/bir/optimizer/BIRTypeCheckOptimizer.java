@@ -0,0 +1,418 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remove type checks of values whose types are already known, e.g. a cast of a variable in the branch taken when the
+ * variable is tested to be of the type, or a repeated test or cast of the same variable.
+ * <p>
+ * The types known for the variables at the start of each basic block are found by a forward data flow analysis. A
+ * type is known for a variable if it is known on every path to the block. A type test which is known to be true is
+ * replaced by a constant load, and a cast which is known to succeed is generated without checking the type.
+ *
+ * @since 2.0.0
+ */
+public class BIRTypeCheckOptimizer extends BIRVisitor {
+
+    private final Types types;
+    private int removedTypeCheckCount;
+
+    public BIRTypeCheckOptimizer(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRNode.BIRPackage birPackage) {
+        removedTypeCheckCount = 0;
+        birPackage.accept(this);
+        birPackage.removedTypeCheckCount += removedTypeCheckCount;
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        Map<BIRBasicBlock, Set<TypeFact>> blockInFacts = analyzeFunction(birFunction);
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            Set<TypeFact> facts = blockInFacts.get(basicBlock);
+            if (facts != null) {
+                removeTypeChecks(basicBlock, new HashSet<>(facts));
+            }
+        }
+    }
+
+    /**
+     * Finds the types known at the start of each reachable basic block, by iterating until the known types do not
+     * change. A block which is not yet visited is considered to know every type, so the known types only shrink.
+     */
+    private Map<BIRBasicBlock, Set<TypeFact>> analyzeFunction(BIRFunction birFunction) {
+        Map<BIRBasicBlock, List<BIRBasicBlock>> predecessors = new HashMap<>();
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            for (BIRBasicBlock successor : basicBlock.terminator.getNextBasicBlocks()) {
+                predecessors.computeIfAbsent(successor, bb -> new ArrayList<>()).add(basicBlock);
+            }
+        }
+
+        // Panics within a trapped region jump to the target block, from any instruction of the region.
+        Set<BIRBasicBlock> errorTargets = new HashSet<>();
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            errorTargets.add(errorEntry.targetBB);
+        }
+
+        BIRBasicBlock entryBB = birFunction.basicBlocks.get(0);
+        Map<BIRBasicBlock, Set<TypeFact>> blockInFacts = new HashMap<>();
+        Map<BIRBasicBlock, BlockOutFacts> blockOutFacts = new HashMap<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+                Set<TypeFact> inFacts;
+                if (basicBlock == entryBB || errorTargets.contains(basicBlock)) {
+                    inFacts = new HashSet<>();
+                } else {
+                    inFacts = mergeFacts(basicBlock, predecessors.get(basicBlock), blockOutFacts);
+                    if (inFacts == null) {
+                        // None of the predecessors are visited yet.
+                        continue;
+                    }
+                }
+
+                if (inFacts.equals(blockInFacts.get(basicBlock))) {
+                    continue;
+                }
+                blockInFacts.put(basicBlock, inFacts);
+                blockOutFacts.put(basicBlock, computeOutFacts(basicBlock, new HashSet<>(inFacts)));
+                changed = true;
+            }
+        }
+        return blockInFacts;
+    }
+
+    private Set<TypeFact> mergeFacts(BIRBasicBlock basicBlock, List<BIRBasicBlock> predecessors,
+                                     Map<BIRBasicBlock, BlockOutFacts> blockOutFacts) {
+        if (predecessors == null) {
+            return null;
+        }
+
+        Set<TypeFact> inFacts = null;
+        for (BIRBasicBlock predecessor : predecessors) {
+            BlockOutFacts outFacts = blockOutFacts.get(predecessor);
+            if (outFacts == null) {
+                continue;
+            }
+
+            Set<TypeFact> edgeFacts = outFacts.getEdgeFacts(basicBlock);
+            if (inFacts == null) {
+                inFacts = new HashSet<>(edgeFacts);
+            } else {
+                inFacts.retainAll(edgeFacts);
+            }
+        }
+        return inFacts;
+    }
+
+    private BlockOutFacts computeOutFacts(BIRBasicBlock basicBlock, Set<TypeFact> facts) {
+        Map<BIRVariableDcl, TypeFact> typeTests = new HashMap<>();
+        for (BIRNonTerminator instruction : basicBlock.instructions) {
+            updateFacts(instruction, facts, typeTests);
+        }
+
+        BIRTerminator terminator = basicBlock.terminator;
+        TypeFact trueBranchFact = null;
+        if (terminator instanceof BIRTerminator.Branch) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            if (branch.trueBB != branch.falseBB) {
+                trueBranchFact = typeTests.get(branch.op.variableDcl);
+            }
+        }
+        if (terminator.lhsOp != null) {
+            killFacts(terminator.lhsOp.variableDcl, facts);
+        }
+        return new BlockOutFacts(facts, terminator, trueBranchFact);
+    }
+
+    private void removeTypeChecks(BIRBasicBlock basicBlock, Set<TypeFact> facts) {
+        Map<BIRVariableDcl, TypeFact> typeTests = new HashMap<>();
+        List<BIRNonTerminator> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator instruction = instructions.get(i);
+            switch (instruction.getKind()) {
+                case TYPE_TEST:
+                    BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) instruction;
+                    if (isTypeKnown(typeTest.rhsOp.variableDcl, typeTest.type, facts)) {
+                        instructions.set(i, new BIRNonTerminator.ConstantLoad(typeTest.pos, true,
+                                typeTest.lhsOp.variableDcl.type, typeTest.lhsOp));
+                        removedTypeCheckCount++;
+                    }
+                    break;
+                case TYPE_CAST:
+                    BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                    if (typeCast.checkTypes && isTypeKnown(typeCast.rhsOp.variableDcl, typeCast.type, facts) &&
+                            canCastWithoutCheck(typeCast.rhsOp.variableDcl.type, typeCast.type)) {
+                        typeCast.checkTypes = false;
+                        removedTypeCheckCount++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            // The facts are updated by the original instruction, since a replaced type test is known to be true.
+            updateFacts(instruction, facts, typeTests);
+        }
+    }
+
+    private void updateFacts(BIRNonTerminator instruction, Set<TypeFact> facts,
+                             Map<BIRVariableDcl, TypeFact> typeTests) {
+        if (instruction.lhsOp == null) {
+            return;
+        }
+
+        BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+        killFacts(lhsVar, facts);
+        typeTests.remove(lhsVar);
+        typeTests.values().removeIf(typeTest -> typeTest.variable == lhsVar);
+
+        switch (instruction.getKind()) {
+            case TYPE_TEST:
+                BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) instruction;
+                BIRVariableDcl testedVar = typeTest.rhsOp.variableDcl;
+                if (isTrackedVariable(testedVar) && testedVar != lhsVar) {
+                    typeTests.put(lhsVar, new TypeFact(testedVar, typeTest.type));
+                }
+                break;
+            case TYPE_CAST:
+                BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                addFact(lhsVar, typeCast.type, facts);
+                // A successful cast to a type which does not convert values leaves the value as it is.
+                if (typeCast.checkTypes && !isConvertingCastTarget(typeCast.rhsOp.variableDcl.type, typeCast.type)) {
+                    addFact(typeCast.rhsOp.variableDcl, typeCast.type, facts);
+                }
+                break;
+            case MOVE:
+                BIRVariableDcl rhsVar = ((BIRNonTerminator.Move) instruction).rhsOp.variableDcl;
+                List<TypeFact> copiedFacts = new ArrayList<>();
+                for (TypeFact fact : facts) {
+                    if (fact.variable == rhsVar) {
+                        copiedFacts.add(new TypeFact(lhsVar, fact.type));
+                    }
+                }
+                if (isTrackedVariable(lhsVar)) {
+                    facts.addAll(copiedFacts);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addFact(BIRVariableDcl variable, BType type, Set<TypeFact> facts) {
+        if (isTrackedVariable(variable)) {
+            facts.add(new TypeFact(variable, type));
+        }
+    }
+
+    private void killFacts(BIRVariableDcl variable, Set<TypeFact> facts) {
+        facts.removeIf(fact -> fact.variable == variable);
+    }
+
+    private boolean isTypeKnown(BIRVariableDcl variable, BType type, Set<TypeFact> facts) {
+        for (TypeFact fact : facts) {
+            if (fact.variable == variable && (fact.type == type || types.isAssignable(fact.type, type))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only the variables local to a function are tracked, since other strands and functions may update the others.
+     */
+    private boolean isTrackedVariable(BIRVariableDcl variable) {
+        switch (variable.kind) {
+            case LOCAL:
+            case ARG:
+            case TEMP:
+            case SYNTHETIC:
+            case SELF:
+                return !(variable instanceof BIRNode.BIRGlobalVariableDcl);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether a cast generated without checking the type supports the source and the target types. Simple
+     * basic values are unboxed only from the types which hold them as objects.
+     */
+    private boolean canCastWithoutCheck(BType sourceType, BType targetType) {
+        if (targetType.tag == TypeTags.INTERSECTION) {
+            targetType = ((BIntersectionType) targetType).effectiveType;
+        }
+
+        if (TypeTags.isXMLTypeTag(sourceType.tag)) {
+            // A checked cast of an xml value to a map gets the attributes of the xml value.
+            return false;
+        }
+
+        if (!isSimpleBasicType(targetType)) {
+            return true;
+        }
+
+        switch (sourceType.tag) {
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.UNION:
+            case TypeTags.JSON:
+            case TypeTags.READONLY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether a successful checked cast may convert the value, e.g. a numeric value cast to another numeric
+     * type, or an xml value cast to a map.
+     */
+    private boolean isConvertingCastTarget(BType sourceType, BType targetType) {
+        if (targetType.tag == TypeTags.INTERSECTION) {
+            targetType = ((BIntersectionType) targetType).effectiveType;
+        }
+
+        if (TypeTags.isXMLTypeTag(sourceType.tag)) {
+            return true;
+        }
+
+        switch (targetType.tag) {
+            case TypeTags.UNION:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+            case TypeTags.READONLY:
+            case TypeTags.FINITE:
+                return true;
+            default:
+                return isSimpleBasicType(targetType);
+        }
+    }
+
+    private boolean isSimpleBasicType(BType type) {
+        if (TypeTags.isIntegerTypeTag(type.tag) || TypeTags.isStringTypeTag(type.tag)) {
+            return true;
+        }
+
+        switch (type.tag) {
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.BOOLEAN:
+            case TypeTags.BYTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The facts known at the end of a basic block, and the type known in the branch taken when a type test is true.
+     */
+    private static class BlockOutFacts {
+
+        private final Set<TypeFact> facts;
+        private final BIRAbstractInstruction terminator;
+        private final TypeFact trueBranchFact;
+
+        BlockOutFacts(Set<TypeFact> facts, BIRAbstractInstruction terminator, TypeFact trueBranchFact) {
+            this.facts = facts;
+            this.terminator = terminator;
+            this.trueBranchFact = trueBranchFact;
+        }
+
+        Set<TypeFact> getEdgeFacts(BIRBasicBlock successor) {
+            if (trueBranchFact == null || ((BIRTerminator.Branch) terminator).trueBB != successor) {
+                return facts;
+            }
+
+            Set<TypeFact> edgeFacts = new HashSet<>(facts);
+            edgeFacts.add(trueBranchFact);
+            return edgeFacts;
+        }
+    }
+
+    /**
+     * A type known for the value of a variable. The variables and the types are compared by identity.
+     */
+    private static class TypeFact {
+
+        private final BIRVariableDcl variable;
+        private final BType type;
+
+        TypeFact(BIRVariableDcl variable, BType type) {
+            this.variable = variable;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeFact)) {
+                return false;
+            }
+
+            TypeFact other = (TypeFact) obj;
+            return this.variable == other.variable && this.type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(variable), System.identityHashCode(type));
+        }
+    }
+}
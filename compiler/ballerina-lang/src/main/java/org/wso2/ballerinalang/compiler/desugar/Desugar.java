@@ -1366,6 +1366,7 @@ public class Desugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangSimpleVariableDef varDefNode) {
+        queryDesugar.markParallelQuery(varDefNode.var);
         varDefNode.var = rewrite(varDefNode.var, env);
         result = varDefNode;
     }
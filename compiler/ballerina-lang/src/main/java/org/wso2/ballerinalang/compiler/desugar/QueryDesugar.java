@@ -19,8 +19,10 @@ package org.wso2.ballerinalang.compiler.desugar;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -29,19 +31,27 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAnnotationSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.BLangBlockFunctionBody;
 import org.wso2.ballerinalang.compiler.tree.BLangErrorVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangFunction;
@@ -167,17 +177,21 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -189,13 +203,18 @@ import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
  */
 public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
+    private static final Name QUERY_CREATE_INDEXED_PIPELINE_FUNCTION = new Name("createIndexedPipeline");
+    private static final Name QUERY_CREATE_RANGE_INDEXED_PIPELINE_FUNCTION = new Name("createRangeIndexedPipeline");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION = new Name("createIndexedInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION = new Name("createIndexedOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION = new Name("createTopKOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
@@ -206,6 +225,11 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_CHECK_LIMIT_FUNCTION = new Name("checkLimit");
+    private static final Name QUERY_PARALLEL_COLLECT_FUNCTION = new Name("parallelCollect");
+    private static final String STRAND_ANNOTATION = "strand";
+    private static final String STRAND_THREAD_FIELD = "thread";
+    private static final String STRAND_ANY_THREAD = "any";
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -245,6 +269,15 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return desugared query expression.
      */
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env) {
+        List<BLangExpression> refs = new ArrayList<>();
+        if (isFusible(queryExpr, refs)) {
+            this.env = env;
+            List<BSymbol> closureSymbols = new ArrayList<>();
+            if (queryExpr.isParallel && isParallelizable(queryExpr, refs, closureSymbols)) {
+                return desugarToParallelLoop(queryExpr, closureSymbols, env);
+            }
+            return desugarToLoop(queryExpr, env);
+        }
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
@@ -307,6 +340,522 @@ public class QueryDesugar extends BLangNodeVisitor {
         return stmtExpr;
     }
 
+    // ---- Util methods to fuse the query into a single loop. ---- //
+    /**
+     * Desugar a query which produces a list from a single array, map or table, using only let, where, limit and select
+     * clauses, to a single loop which does not create a pipeline, frames or lambda functions.
+     * int[] $result = [];
+     * int $count = 0;
+     * int $limitCount = 0;
+     * foreach var x in collection {
+     *     int y = x * 2;
+     *     if (y > 10) {
+     *     } else {
+     *         continue;
+     *     }
+     *     if ($limitCount >= checkLimit(lmt)) {
+     *         break;
+     *     }
+     *     $limitCount = $limitCount + 1;
+     *     $result[$count] = y;
+     *     $count = $count + 1;
+     * }
+     * The limit is evaluated for each row, as in the pipeline.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BArrayType arrayType = (BArrayType) queryExpr.type;
+        BVarSymbol resultSymbol = addLoopVariable(queryBlock, pos, createEmptyArrayLiteral(arrayType));
+        BVarSymbol countSymbol = addLoopVariable(queryBlock, pos,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+
+        addFusedClauses(queryBlock, foreach.body, clauses, arrayType, resultSymbol, countSymbol);
+        queryBlock.addStatement(foreach);
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.type = arrayType;
+        return stmtExpr;
+    }
+
+    /**
+     * Adds the statements of the let, where, limit and select clauses of a fused query to the body of its loop.
+     *
+     * @param varBlock     block to define the variables which live across the iterations of the loop.
+     * @param body         body of the loop.
+     * @param clauses      list of query clauses.
+     * @param arrayType    type of the list constructed by the query.
+     * @param resultSymbol symbol of the list constructed by the query.
+     * @param countSymbol  symbol of the number of selected values.
+     */
+    private void addFusedClauses(BLangBlockStmt varBlock, BLangBlockStmt body, List<BLangNode> clauses,
+                                 BArrayType arrayType, BVarSymbol resultSymbol, BVarSymbol countSymbol) {
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangBlockStmt elseBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    BLangContinue continueStmt = (BLangContinue) TreeBuilder.createContinueNode();
+                    continueStmt.pos = whereClause.pos;
+                    elseBody.addStatement(continueStmt);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos, whereClause.expression,
+                            ASTBuilderUtil.createBlockStmt(whereClause.pos), elseBody));
+                    break;
+                case LIMIT:
+                    BLangLimitClause limitClause = (BLangLimitClause) clause;
+                    BVarSymbol limitCountSymbol = addLoopVariable(varBlock, limitClause.pos,
+                            ASTBuilderUtil.createLiteral(limitClause.pos, symTable.intType, 0L));
+                    BLangExpression limitExpr = createQueryLibInvocation(QUERY_CHECK_LIMIT_FUNCTION,
+                            Lists.of(limitClause.expression), limitClause.pos);
+                    BLangBinaryExpr limitReached = ASTBuilderUtil.createBinaryExpr(limitClause.pos,
+                            ASTBuilderUtil.createVariableRef(limitClause.pos, limitCountSymbol), limitExpr,
+                            symTable.booleanType, OperatorKind.GREATER_EQUAL,
+                            (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.GREATER_EQUAL,
+                                    symTable.intType, symTable.intType));
+                    BLangBlockStmt limitBody = ASTBuilderUtil.createBlockStmt(limitClause.pos);
+                    BLangBreak breakStmt = (BLangBreak) TreeBuilder.createBreakNode();
+                    breakStmt.pos = limitClause.pos;
+                    limitBody.addStatement(breakStmt);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(limitClause.pos, limitReached, limitBody,
+                            null));
+                    body.addStatement(createIncrementStmt(limitClause.pos, limitCountSymbol));
+                    break;
+                case SELECT:
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    Location selectPos = selectClause.pos;
+                    BLangIndexBasedAccess elementAccess = ASTBuilderUtil.createIndexBasesAccessExpr(selectPos,
+                            arrayType.eType, resultSymbol, ASTBuilderUtil.createVariableRef(selectPos, countSymbol));
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectPos, elementAccess,
+                            desugar.addConversionExprIfRequired(selectClause.expression, arrayType.eType)));
+                    body.addStatement(createIncrementStmt(selectPos, countSymbol));
+                    break;
+            }
+        }
+    }
+
+    // ---- Util methods to evaluate a fused query in parallel. ---- //
+    /**
+     * Marks the query expression which initializes the given variable to be evaluated in parallel, if the variable
+     * declaration is annotated with the `strand` annotation of the lang.annotations module, with `thread: "any"`.
+     *
+     * @param variable variable to be desugared.
+     */
+    void markParallelQuery(BLangSimpleVariable variable) {
+        if (variable.expr == null || variable.expr.getKind() != NodeKind.QUERY_EXPR) {
+            return;
+        }
+        for (BLangAnnotationAttachment annotation : variable.annAttachments) {
+            BAnnotationSymbol annotationSymbol = annotation.annotationSymbol;
+            if (annotationSymbol == null || !annotationSymbol.pkgID.equals(PackageID.ANNOTATIONS)
+                    || !annotationSymbol.name.value.equals(STRAND_ANNOTATION) || annotation.expr == null
+                    || annotation.expr.getKind() != NodeKind.RECORD_LITERAL_EXPR) {
+                continue;
+            }
+            for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) annotation.expr).fields) {
+                if (!field.isKeyValueField()) {
+                    continue;
+                }
+                BLangRecordKeyValueField keyValue = (BLangRecordKeyValueField) field;
+                BLangExpression key = keyValue.key.expr;
+                if (key.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                        && ((BLangSimpleVarRef) key).variableName.value.equals(STRAND_THREAD_FIELD)
+                        && STRAND_ANY_THREAD.equals(getConstantValue(keyValue.valueExpr))) {
+                    ((BLangQueryExpr) variable.expr).isParallel = true;
+                }
+            }
+        }
+    }
+
+    private Object getConstantValue(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+                return ((BLangLiteral) expr).value;
+            case CONSTANT_REF:
+                return ((BLangConstRef) expr).value;
+            case GROUP_EXPR:
+                return getConstantValue(((BLangGroupExpr) expr).expression);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol != null && (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT
+                        && ((BConstantSymbol) symbol).value != null) {
+                    return ((BConstantSymbol) symbol).value.value;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether a fused query can be evaluated in parallel over chunks of its rows. The query should iterate a
+     * list or a table, should not have a limit clause since the rows counted towards the limit depend on the order
+     * of evaluation, and should be free of side effects, i.e. its clauses may only read local variables declared
+     * outside the query, and only call isolated functions with readonly arguments.
+     *
+     * @param queryExpr      fused query expression.
+     * @param refs           variable references and invocations of the clauses of the query.
+     * @param closureSymbols list to which the symbols of the variables captured by the query are added.
+     * @return true if the query can be evaluated in parallel.
+     */
+    private boolean isParallelizable(BLangQueryExpr queryExpr, List<BLangExpression> refs,
+                                     List<BSymbol> closureSymbols) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        int collectionTag = fromClause.collection.type.tag;
+        if (collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TABLE) {
+            return false;
+        }
+        Set<BSymbol> introducedSymbols = new HashSet<>(
+                getIntroducedSymbols((BLangVariable) fromClause.variableDefinitionNode.getVariable()));
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            if (clause.getKind() == NodeKind.LIMIT) {
+                return false;
+            }
+            if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                introducedSymbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+            }
+        }
+
+        for (BLangExpression ref : refs) {
+            if (ref.getKind() == NodeKind.INVOCATION) {
+                if (!isParallelizable((BLangInvocation) ref)) {
+                    return false;
+                }
+                continue;
+            }
+            BLangSimpleVarRef varRef = (BLangSimpleVarRef) ref;
+            BSymbol symbol = varRef.symbol;
+            while (symbol instanceof BVarSymbol && ((BVarSymbol) symbol).originalSymbol != null) {
+                symbol = ((BVarSymbol) symbol).originalSymbol;
+            }
+            if (symbol == null || introducedSymbols.contains(symbol)) {
+                continue;
+            }
+            BSymbol resolvedSymbol = symResolver.lookupClosureVarSymbol(env, names.fromIdNode(varRef.variableName),
+                    SymTag.VARIABLE);
+            // Module level variables may be updated by other strands while the query is evaluated.
+            if ((resolvedSymbol != symbol && resolvedSymbol != varRef.symbol)
+                    || (symbol.owner.tag == SymTag.PACKAGE && !Symbols.isFlagOn(symbol.flags, Flags.FINAL))) {
+                return false;
+            }
+            closureSymbols.add(resolvedSymbol);
+        }
+        return true;
+    }
+
+    private boolean isParallelizable(BLangInvocation invocation) {
+        if (invocation.functionPointerInvocation || invocation.symbol == null
+                || !Symbols.isFlagOn(invocation.symbol.flags, Flags.ISOLATED)) {
+            return false;
+        }
+        if (invocation.expr != null && !types.isAssignable(invocation.expr.type, symTable.readonlyType)) {
+            return false;
+        }
+        for (BLangExpression arg : invocation.requiredArgs) {
+            if (!types.isAssignable(arg.type, symTable.readonlyType)) {
+                return false;
+            }
+        }
+        for (BLangExpression arg : invocation.restArgs) {
+            if (!types.isAssignable(arg.type, symTable.readonlyType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Desugar a fused query which can be evaluated in parallel, to a lambda function which evaluates the query over
+     * a range of the rows, and an invocation which evaluates the chunks of the rows concurrently and collects the
+     * selected values of the chunks in order.
+     * int[] $result = [];
+     * query:parallelCollect(collection, function (Type[] $rows, int $start, int $end) returns any|error? {
+     *     int[] $chunkResult = [];
+     *     int $count = 0;
+     *     int $i = $start;
+     *     while ($i < $end) {
+     *         int $rowIndex = $i;
+     *         $i = $i + 1;
+     *         var x = <T> $rows[$rowIndex];
+     *         ...
+     *         $chunkResult[$count] = y;
+     *         $count = $count + 1;
+     *     }
+     *     return $chunkResult;
+     * }, $result);
+     *
+     * @param queryExpr      query expression to be desugared.
+     * @param closureSymbols symbols of the variables captured by the lambda function.
+     * @param env            symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToParallelLoop(BLangQueryExpr queryExpr, List<BSymbol> closureSymbols,
+                                                           SymbolEnv env) {
+        this.env = env;
+        closureSymbols.forEach(symbol -> symbol.closure = true);
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BArrayType arrayType = (BArrayType) queryExpr.type;
+        BVarSymbol resultSymbol = addLoopVariable(queryBlock, pos, createEmptyArrayLiteral(arrayType));
+
+        BInvokableSymbol collectSymbol = getQueryLibInvokableSymbol(QUERY_PARALLEL_COLLECT_FUNCTION);
+        BInvokableType chunkFuncType = (BInvokableType) collectSymbol.params.get(1).type;
+        BVarSymbol rowsSymbol = createParameterSymbol(pos, "$rows$", chunkFuncType.paramTypes.get(0));
+        BVarSymbol startSymbol = createParameterSymbol(pos, "$start$", symTable.intType);
+        BVarSymbol endSymbol = createParameterSymbol(pos, "$end$", symTable.intType);
+
+        BLangBlockStmt chunkBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BVarSymbol chunkResultSymbol = addLoopVariable(chunkBlock, pos, createEmptyArrayLiteral(arrayType));
+        BVarSymbol countSymbol = addLoopVariable(chunkBlock, pos,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BVarSymbol indexSymbol = addLoopVariable(chunkBlock, pos, ASTBuilderUtil.createVariableRef(pos, startSymbol));
+
+        BLangWhile whileNode = (BLangWhile) TreeBuilder.createWhileNode();
+        whileNode.pos = pos;
+        whileNode.expr = ASTBuilderUtil.createBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, indexSymbol),
+                ASTBuilderUtil.createVariableRef(pos, endSymbol), symTable.booleanType, OperatorKind.LESS_THAN,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.LESS_THAN, symTable.intType,
+                        symTable.intType));
+        whileNode.body = ASTBuilderUtil.createBlockStmt(pos);
+        BVarSymbol rowIndexSymbol = addLoopVariable(whileNode.body, pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol));
+        whileNode.body.addStatement(createIncrementStmt(pos, indexSymbol));
+        BLangIndexBasedAccess rowAccess = ASTBuilderUtil.createIndexBasesAccessExpr(pos,
+                ((BArrayType) rowsSymbol.type).eType, rowsSymbol, ASTBuilderUtil.createVariableRef(pos,
+                        rowIndexSymbol));
+        VariableDefinitionNode variableDefinitionNode = fromClause.variableDefinitionNode;
+        ((BLangVariable) variableDefinitionNode.getVariable()).setInitialExpression(
+                desugar.addConversionExprIfRequired(rowAccess, fromClause.varType));
+        whileNode.body.addStatement((BLangStatement) variableDefinitionNode);
+        addFusedClauses(chunkBlock, whileNode.body, clauses, arrayType, chunkResultSymbol, countSymbol);
+        chunkBlock.addStatement(whileNode);
+
+        BLangReturn returnNode = ASTBuilderUtil.createReturnStmt(pos,
+                ASTBuilderUtil.createVariableRef(pos, chunkResultSymbol));
+        chunkBlock.addStatement(returnNode);
+        BLangBlockFunctionBody chunkBody = (BLangBlockFunctionBody) TreeBuilder.createBlockFunctionBodyNode();
+        chunkBlock.stmts.forEach(chunkBody::addStatement);
+        BLangLambdaFunction chunkLambda = createLambdaFunction(pos, Lists.of(
+                ASTBuilderUtil.createVariable(pos, null, rowsSymbol.type, null, rowsSymbol),
+                ASTBuilderUtil.createVariable(pos, null, startSymbol.type, null, startSymbol),
+                ASTBuilderUtil.createVariable(pos, null, endSymbol.type, null, endSymbol)),
+                getAnyErrorNilTypeNode(), chunkBody);
+
+        BLangExpressionStmt collectStmt = ASTBuilderUtil.createExpressionStmt(pos, queryBlock);
+        collectStmt.expr = createQueryLibInvocation(QUERY_PARALLEL_COLLECT_FUNCTION,
+                Lists.of(fromClause.collection, chunkLambda, ASTBuilderUtil.createVariableRef(pos, resultSymbol)),
+                pos);
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.type = arrayType;
+        return stmtExpr;
+    }
+
+    private BVarSymbol createParameterSymbol(Location pos, String name, BType type) {
+        return new BVarSymbol(0, names.fromString(name), this.env.scope.owner.pkgID, type, this.env.scope.owner,
+                              pos, VIRTUAL);
+    }
+
+    private BLangArrayLiteral createEmptyArrayLiteral(BArrayType arrayType) {
+        BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arr.exprs = new ArrayList<>();
+        arr.type = arrayType;
+        return arr;
+    }
+
+    private BVarSymbol addLoopVariable(BLangBlockStmt blockStmt, Location pos, BLangExpression initExpr) {
+        String name = getNewVarName();
+        BVarSymbol varSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, initExpr.type,
+                                              this.env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, initExpr.type, initExpr, varSymbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return varSymbol;
+    }
+
+    private BLangAssignment createIncrementStmt(Location pos, BVarSymbol countSymbol) {
+        BLangBinaryExpr increment = ASTBuilderUtil.createBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos,
+                countSymbol), ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L), symTable.intType,
+                OperatorKind.ADD, (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD,
+                        symTable.intType, symTable.intType));
+        return ASTBuilderUtil.createAssignmentStmt(pos, ASTBuilderUtil.createVariableRef(pos, countSymbol), increment);
+    }
+
+    /**
+     * Checks whether a query expression can be desugared to a single loop. The query should construct an open array
+     * from an array, a map or a table, using only let, where, limit and select clauses whose expressions cannot
+     * capture the query variables in a closure, start a strand or fail. A query over a table is not fused if its
+     * rows can be looked up in an index.
+     *
+     * @param queryExpr query expression.
+     * @param refs      list to collect the variable references and invocations of the clauses into.
+     * @return true if the query can be fused into a loop.
+     */
+    private boolean isFusible(BLangQueryExpr queryExpr, List<BLangExpression> refs) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.type.tag != TypeTags.ARRAY
+                || ((BArrayType) queryExpr.type).state != BArrayState.OPEN) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        switch (fromClause.collection.type.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.MAP:
+            case TypeTags.TABLE:
+                break;
+            default:
+                return false;
+        }
+        if (!isFusible(fromClause.collection, null)) {
+            return false;
+        }
+        // A loop would iterate all the rows of a table whose rows can be looked up in an index instead.
+        if (!getIndexConditions(fromClause, clauses.subList(1, clauses.size())).isEmpty()) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangExpression initExpr = ((BLangVariable) letVariable.definitionNode.getVariable()).expr;
+                        if (initExpr == null || !isFusible(initExpr, refs)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isFusible(((BLangWhereClause) clause).expression, refs)) {
+                        return false;
+                    }
+                    break;
+                case LIMIT:
+                    if (!isFusible(((BLangLimitClause) clause).expression, refs)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isFusible(((BLangSelectClause) clause).expression, refs)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return clauses.get(clauses.size() - 1).getKind() == NodeKind.SELECT;
+    }
+
+    private boolean isFusible(List<? extends BLangExpression> exprs, List<BLangExpression> refs) {
+        for (BLangExpression expr : exprs) {
+            if (!isFusible(expr, refs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFusible(BLangExpression expr, List<BLangExpression> refs) {
+        if (expr == null) {
+            return true;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                addRef(expr, refs);
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return isFusible(((BLangFieldBasedAccess) expr).expr, refs);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccess = (BLangIndexBasedAccess) expr;
+                return isFusible(indexAccess.expr, refs) && isFusible(indexAccess.indexExpr, refs);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isFusible(binaryExpr.lhsExpr, refs) && isFusible(binaryExpr.rhsExpr, refs);
+            case UNARY_EXPR:
+                return isFusible(((BLangUnaryExpr) expr).expr, refs);
+            case GROUP_EXPR:
+                return isFusible(((BLangGroupExpr) expr).expression, refs);
+            case TYPE_CONVERSION_EXPR:
+                return isFusible(((BLangTypeConversionExpr) expr).expr, refs);
+            case TYPE_TEST_EXPR:
+                return isFusible(((BLangTypeTestExpr) expr).expr, refs);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isFusible(ternaryExpr.expr, refs) && isFusible(ternaryExpr.thenExpr, refs)
+                        && isFusible(ternaryExpr.elseExpr, refs);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isFusible(elvisExpr.lhsExpr, refs) && isFusible(elvisExpr.rhsExpr, refs);
+            case STRING_TEMPLATE_LITERAL:
+                return isFusible(((BLangStringTemplateLiteral) expr).exprs, refs);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return isFusible(((BLangListConstructorExpr) expr).exprs, refs);
+            case NAMED_ARGS_EXPR:
+                return isFusible(((BLangNamedArgsExpression) expr).expr, refs);
+            case REST_ARGS_EXPR:
+                return isFusible(((BLangRestArgsExpression) expr).expr, refs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                        if ((keyValueField.key.computedKey && !isFusible(keyValueField.key.expr, refs))
+                                || !isFusible(keyValueField.valueExpr, refs)) {
+                            return false;
+                        }
+                    } else if (((BLangNode) field).getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP
+                            && !isFusible(((BLangRecordSpreadOperatorField) field).expr, refs)) {
+                        return false;
+                    }
+                }
+                return true;
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                addRef(expr, refs);
+                return !invocation.async && !(invocation instanceof BLangInvocation.BLangActionInvocation)
+                        && isFusible(invocation.expr, refs) && isFusible(invocation.argExprs, refs)
+                        && isFusible(invocation.requiredArgs, refs) && isFusible(invocation.restArgs, refs);
+            default:
+                return false;
+        }
+    }
+
+    private void addRef(BLangExpression expr, List<BLangExpression> refs) {
+        if (refs != null) {
+            refs.add(expr);
+        }
+    }
+
     /**
      * Write the pipeline to the given `block` and return the reference to the resulting stream.
      *
@@ -319,10 +868,12 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
-        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+        final BLangVariableReference initPipeline = addInitPipeline(block, initFromClause,
+                clauses.subList(1, clauses.size()), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
+        BLangLimitClause topKLimitClause = null;
+        BLangVariableReference topKLimitFunc = null;
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
             switch (clause.getKind()) {
                 case FROM:
@@ -334,11 +885,13 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    BVarSymbol joinCollection = addCollectionVariable(block, joinClause.pos, joinClause.collection);
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                            QUERY_CREATE_PIPELINE_FUNCTION, joinCollection, resultType, Collections.emptyList());
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
+                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
+                            joinCollection);
                     addStreamFunction(block, initPipeline, joinFunc);
                     break;
                 case LET_CLAUSE:
@@ -350,7 +903,10 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
+                    BLangOrderByClause orderByClause = (BLangOrderByClause) clause;
+                    topKLimitClause = getTopKLimitClause(clauses, orderByClause);
+                    topKLimitFunc = topKLimitClause == null ? null : addLimitFunction(block, topKLimitClause);
+                    BLangVariableReference orderFunc = addOrderByFunction(block, orderByClause, topKLimitFunc);
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case SELECT:
@@ -362,7 +918,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, doFunc);
                     break;
                 case LIMIT:
-                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
+                    BLangVariableReference limitFunc = clause == topKLimitClause ? topKLimitFunc
+                            : addLimitFunction(block, (BLangLimitClause) clause);
                     addStreamFunction(block, initPipeline, limitFunc);
                     break;
                 case ON_CONFLICT:
@@ -387,14 +944,96 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
                                        BLangExpression collection, BType resultType) {
+        BVarSymbol dataSymbol = addCollectionVariable(blockStmt, pos, collection);
+        return addPipeline(blockStmt, pos, QUERY_CREATE_PIPELINE_FUNCTION, dataSymbol, resultType,
+                Collections.emptyList());
+    }
+
+    /**
+     * Desugar the initial fromClause to a pipeline. When the rows of a table are filtered by a where clause which
+     * compares a field of the row with a value which does not change during the query, the pipeline looks up the
+     * matching rows in an index of the table instead of iterating all the rows.
+     * _StreamPipeline pipeline = createIndexedPipeline(collection, "field", value);
+     * _StreamPipeline pipeline = createRangeIndexedPipeline(collection, "field", true, lower, true, false, (), false);
+     * The where clause is still applied to the rows found, and all the rows are iterated if the table is not indexed.
+     *
+     * @param blockStmt        parent block to write to.
+     * @param fromClause       initial fromClause of the query.
+     * @param followingClauses clauses which follow the initial fromClause.
+     * @param resultType       result type of the query output.
+     * @return variableReference to created _StreamPipeline.
+     */
+    private BLangVariableReference addInitPipeline(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                                   List<BLangNode> followingClauses, BType resultType) {
+        Location pos = fromClause.pos;
+        BVarSymbol dataSymbol = addCollectionVariable(blockStmt, pos, fromClause.collection);
+        IndexCondition lower = null;
+        IndexCondition upper = null;
+        for (IndexCondition condition : getIndexConditions(fromClause, followingClauses)) {
+            if (condition.opKind == OperatorKind.EQUAL) {
+                return addPipeline(blockStmt, pos, QUERY_CREATE_INDEXED_PIPELINE_FUNCTION, dataSymbol, resultType,
+                        Lists.of(createStringLiteral(pos, condition.fieldName), condition.createValueExpr(pos)));
+            }
+            if (lower != null && upper != null) {
+                continue;
+            }
+            String fieldName = lower != null ? lower.fieldName : upper != null ? upper.fieldName : null;
+            if (fieldName != null && !fieldName.equals(condition.fieldName)) {
+                continue;
+            }
+            if (lower == null && (condition.opKind == OperatorKind.GREATER_THAN ||
+                    condition.opKind == OperatorKind.GREATER_EQUAL)) {
+                lower = condition;
+            } else if (upper == null && (condition.opKind == OperatorKind.LESS_THAN ||
+                    condition.opKind == OperatorKind.LESS_EQUAL)) {
+                upper = condition;
+            }
+        }
+        if (lower == null && upper == null) {
+            return addPipeline(blockStmt, pos, QUERY_CREATE_PIPELINE_FUNCTION, dataSymbol, resultType,
+                    Collections.emptyList());
+        }
+
+        List<BLangExpression> indexArgs = new ArrayList<>();
+        indexArgs.add(createStringLiteral(pos, lower != null ? lower.fieldName : upper.fieldName));
+        addRangeBoundArgs(pos, lower, OperatorKind.GREATER_EQUAL, indexArgs);
+        addRangeBoundArgs(pos, upper, OperatorKind.LESS_EQUAL, indexArgs);
+        return addPipeline(blockStmt, pos, QUERY_CREATE_RANGE_INDEXED_PIPELINE_FUNCTION, dataSymbol, resultType,
+                indexArgs);
+    }
+
+    private void addRangeBoundArgs(Location pos, IndexCondition bound, OperatorKind inclusiveOpKind,
+                                   List<BLangExpression> indexArgs) {
+        indexArgs.add(ASTBuilderUtil.createLiteral(pos, symTable.booleanType, bound != null));
+        indexArgs.add(bound != null ? bound.createValueExpr(pos) :
+                ASTBuilderUtil.createLiteral(pos, symTable.nilType, Names.NIL_VALUE));
+        indexArgs.add(ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
+                bound != null && bound.opKind == inclusiveOpKind));
+    }
+
+    /**
+     * Defines a variable which holds the collection of a fromClause/joinClause.
+     *
+     * @param blockStmt  parent block to write to.
+     * @param pos        diagnostic pos of the collection.
+     * @param collection the collection.
+     * @return symbol of the created variable.
+     */
+    private BVarSymbol addCollectionVariable(BLangBlockStmt blockStmt, Location pos, BLangExpression collection) {
         String name = getNewVarName();
         BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
                                                collection.type, this.env.scope.owner, pos, VIRTUAL);
         BLangSimpleVariable dataVariable = ASTBuilderUtil.createVariable(pos, name,
                 collection.type, addTypeConversionExpr(collection, collection.type), dataSymbol);
         BLangSimpleVariableDef dataVarDef = ASTBuilderUtil.createVariableDef(pos, dataVariable);
-        BLangVariableReference valueVarRef = ASTBuilderUtil.createVariableRef(pos, dataSymbol);
         blockStmt.addStatement(dataVarDef);
+        return dataSymbol;
+    }
+
+    private BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos, Name functionName,
+                                               BVarSymbol dataSymbol, BType resultType,
+                                               List<BLangExpression> indexArgs) {
+        BLangVariableReference valueVarRef = ASTBuilderUtil.createVariableRef(pos, dataSymbol);
         if (resultType.tag == TypeTags.ARRAY) {
             resultType = ((BArrayType) resultType).eType;
         } else if (resultType.tag == TypeTags.STREAM) {
@@ -404,8 +1043,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangTypedescExpr typedescExpr = new BLangTypedescExpr();
         typedescExpr.resolvedType = resultType;
         typedescExpr.type = typedescType;
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, typedescExpr), pos);
+        List<BLangExpression> args = new ArrayList<>(Lists.of(valueVarRef, typedescExpr));
+        args.addAll(indexArgs);
+        return getStreamFunctionVariableRef(blockStmt, functionName, args, pos);
     }
 
     /**
@@ -488,21 +1128,36 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param blockStmt    parent block to write to.
      * @param joinClause   to be desugared.
      * @param joinPipeline previously created _StreamPipeline reference to be joined.
+     * @param joinCollection symbol of the variable which holds the collection to be joined.
      * @return variableReference to created join _StreamFunction.
      */
     BLangVariableReference addJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
-                                           BLangVariableReference joinPipeline) {
+                                           BLangVariableReference joinPipeline, BVarSymbol joinCollection) {
         BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
         BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
+        // When the rows of a table are joined on a field, the rows are looked up in an index of the field.
+        String indexedFieldName = getIndexedJoinFieldName(joinClause, lhsExpr, rhsExpr);
         BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr);
         BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr);
         if (joinClause.isOuterJoin) {
             List<BVarSymbol> symbols =
                     getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable());
             final BLangSimpleVarRef nilFrame = defineNilFrameForType(symbols, blockStmt, rhsExpr.pos);
+            if (indexedFieldName != null) {
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION,
+                        Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame,
+                                ASTBuilderUtil.createVariableRef(joinClause.pos, joinCollection),
+                                createStringLiteral(joinClause.pos, indexedFieldName)), joinClause.pos);
+            }
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_OUTER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame), joinClause.pos);
         } else {
+            if (indexedFieldName != null) {
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                        Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction,
+                                ASTBuilderUtil.createVariableRef(joinClause.pos, joinCollection),
+                                createStringLiteral(joinClause.pos, indexedFieldName)), joinClause.pos);
+            }
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INNER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction), joinClause.pos);
         }
@@ -561,17 +1216,39 @@ public class QueryDesugar extends BLangNodeVisitor {
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
     }
 
+    /**
+     * Returns the limit clause which immediately follows the given orderByClause, if the limit does not change during
+     * the query. Such a limit is applied while ordering the frames, so that only the frames within the limit are kept.
+     *
+     * @param clauses       list of query clauses.
+     * @param orderByClause orderByClause of the query.
+     * @return the limit clause, or null if the limit cannot be applied while ordering.
+     */
+    private BLangLimitClause getTopKLimitClause(List<BLangNode> clauses, BLangOrderByClause orderByClause) {
+        int index = clauses.indexOf(orderByClause) + 1;
+        if (index == clauses.size() || clauses.get(index).getKind() != NodeKind.LIMIT) {
+            return null;
+        }
+        BLangLimitClause limitClause = (BLangLimitClause) clauses.get(index);
+        return isQueryInvariant(limitClause.expression, null) ? limitClause : null;
+    }
+
     /**
      * Desugar orderByClause to below and return a reference to created orderBy _StreamFunction.
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
      * });
+     * When the limit of the following limit clause does not change during the query, it is passed to the orderBy
+     * _StreamFunction, which then keeps only the frames within the limit.
+     * _StreamFunction orderByFunc = createTopKOrderByFunction(function(_Frame frame) {...}, limitFunc);
      *
      * @param blockStmt parent block to write to.
      * @param orderByClause  to be desugared.
+     * @param limitFuncRef reference to the limit _StreamFunction which follows the orderBy, or null.
      * @return variableReference to created orderBy _StreamFunction.
      */
-    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause) {
+    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                              BLangVariableReference limitFuncRef) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -603,6 +1280,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
+        if (limitFuncRef != null) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION,
+                    Lists.of(lambda, limitFuncRef), pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
     }
 
@@ -1012,6 +1693,228 @@ public class QueryDesugar extends BLangNodeVisitor {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns the row type of a table of records.
+     *
+     * @param collectionType type of a collection.
+     * @return the record type of the rows, or null if the collection is not a table of records.
+     */
+    private BRecordType getTableRowType(BType collectionType) {
+        if (collectionType.tag == TypeTags.INTERSECTION) {
+            collectionType = ((BIntersectionType) collectionType).effectiveType;
+        }
+        if (collectionType.tag != TypeTags.TABLE) {
+            return null;
+        }
+        BType constraint = ((BTableType) collectionType).constraint;
+        if (constraint.tag == TypeTags.INTERSECTION) {
+            constraint = ((BIntersectionType) constraint).effectiveType;
+        }
+        return constraint.tag == TypeTags.RECORD ? (BRecordType) constraint : null;
+    }
+
+    /**
+     * Returns the conditions of the where clauses of a query over a table, which can be looked up in an index of a
+     * field of the rows. Only the where clauses right after the from clause are considered, as the other clauses
+     * introduce variables which cannot be referred from outside the query.
+     *
+     * @param fromClause       initial fromClause of the query.
+     * @param followingClauses clauses which follow the initial fromClause.
+     * @return the conditions, or an empty list if the rows cannot be looked up in an index.
+     */
+    private List<IndexCondition> getIndexConditions(BLangFromClause fromClause, List<BLangNode> followingClauses) {
+        BRecordType rowType = getTableRowType(fromClause.collection.type);
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (rowType == null || variable.getKind() != NodeKind.VARIABLE) {
+            return Collections.emptyList();
+        }
+        List<IndexCondition> conditions = new ArrayList<>();
+        for (BLangNode clause : followingClauses) {
+            if (clause.getKind() != NodeKind.WHERE) {
+                break;
+            }
+            collectIndexConditions(((BLangWhereClause) clause).expression, ((BLangSimpleVariable) variable).symbol,
+                    rowType, conditions);
+        }
+        return conditions;
+    }
+
+    /**
+     * Collects the comparisons between a field of the row and a query invariant value, which can be looked up in an
+     * index of the field, from the conjuncts of a where clause expression.
+     *
+     * @param expr       where clause expression.
+     * @param rowSymbol  symbol of the variable bound to each row.
+     * @param rowType    record type of the rows.
+     * @param conditions list to add the found conditions to.
+     */
+    private void collectIndexConditions(BLangExpression expr, BVarSymbol rowSymbol, BRecordType rowType,
+                                        List<IndexCondition> conditions) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        OperatorKind opKind = binaryExpr.opKind;
+        if (opKind == OperatorKind.AND) {
+            collectIndexConditions(binaryExpr.lhsExpr, rowSymbol, rowType, conditions);
+            collectIndexConditions(binaryExpr.rhsExpr, rowSymbol, rowType, conditions);
+            return;
+        }
+        if (opKind != OperatorKind.EQUAL && opKind != OperatorKind.LESS_THAN && opKind != OperatorKind.LESS_EQUAL &&
+                opKind != OperatorKind.GREATER_THAN && opKind != OperatorKind.GREATER_EQUAL) {
+            return;
+        }
+
+        BLangExpression valueExpr = binaryExpr.rhsExpr;
+        String fieldName = getRowFieldName(binaryExpr.lhsExpr, rowSymbol, rowType);
+        if (fieldName == null) {
+            // `value < x.f` is looked up as `x.f > value`.
+            valueExpr = binaryExpr.lhsExpr;
+            fieldName = getRowFieldName(binaryExpr.rhsExpr, rowSymbol, rowType);
+            opKind = flipComparison(opKind);
+        }
+        if (fieldName == null || !isQueryInvariant(valueExpr, rowSymbol)) {
+            return;
+        }
+        int keyTypeTag = getIndexKeyTypeTag(rowType.fields.get(fieldName).type, opKind == OperatorKind.EQUAL);
+        if (keyTypeTag != TypeTags.NONE && getValueType(valueExpr).tag == keyTypeTag) {
+            conditions.add(new IndexCondition(fieldName, opKind, valueExpr));
+        }
+    }
+
+    /**
+     * Returns the name of the field of the right hand side row of a join, if the rows can be looked up in an index of
+     * the field. Only int, string and boolean fields are indexed, and only when the left hand side key has the same
+     * type, since the index matches the keys by their values the same way as the join matches them using `==`.
+     *
+     * @param joinClause join clause.
+     * @param lhsExpr    left hand side expression of the on clause.
+     * @param rhsExpr    right hand side expression of the on clause.
+     * @return the name of the field, or null if the rows cannot be looked up in an index.
+     */
+    private String getIndexedJoinFieldName(BLangJoinClause joinClause, BLangExpression lhsExpr,
+                                           BLangExpression rhsExpr) {
+        BRecordType rowType = getTableRowType(joinClause.collection.type);
+        BLangVariable variable = (BLangVariable) joinClause.variableDefinitionNode.getVariable();
+        if (rowType == null || variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        String fieldName = getRowFieldName(rhsExpr, ((BLangSimpleVariable) variable).symbol, rowType);
+        if (fieldName == null) {
+            return null;
+        }
+        int fieldTypeTag = rowType.fields.get(fieldName).type.tag;
+        if (fieldTypeTag != TypeTags.INT && fieldTypeTag != TypeTags.STRING && fieldTypeTag != TypeTags.BOOLEAN) {
+            return null;
+        }
+        return lhsExpr.type.tag == fieldTypeTag ? fieldName : null;
+    }
+
+    private String getRowFieldName(BLangExpression expr, BVarSymbol rowSymbol, BRecordType rowType) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccessExpr = (BLangFieldBasedAccess) expr;
+        if (fieldAccessExpr.isOptionalFieldAccess() || fieldAccessExpr.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccessExpr.expr).symbol != rowSymbol) {
+            return null;
+        }
+        String fieldName = fieldAccessExpr.field.value;
+        return rowType.fields.containsKey(fieldName) ? fieldName : null;
+    }
+
+    /**
+     * Checks whether an expression evaluates to the same value for all the rows of a query, i.e. it is a literal, a
+     * constant or a final variable declared outside the query.
+     */
+    private boolean isQueryInvariant(BLangExpression expr, BVarSymbol rowSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BLangSimpleVarRef varRef = (BLangSimpleVarRef) expr;
+                BSymbol symbol = varRef.symbol;
+                if (symbol == null || symbol == rowSymbol || (symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE ||
+                        (symbol.flags & (Flags.FINAL | Flags.FUNCTION_FINAL)) == 0) {
+                    return false;
+                }
+                // The variables of the query are not visible from the enclosing env.
+                return symResolver.lookupClosureVarSymbol(env, names.fromIdNode(varRef.variableName),
+                        SymTag.VARIABLE) == symbol;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the type tag of the values looked up in an index of a field of the given type. Float fields are only
+     * looked up by range, as the equality of floats treats 0.0 and -0.0 as equal.
+     *
+     * @param fieldType type of the field.
+     * @param equality  whether the field is compared for equality.
+     * @return the type tag, or {@link TypeTags#NONE} if the field cannot be indexed.
+     */
+    private int getIndexKeyTypeTag(BType fieldType, boolean equality) {
+        if (equality && fieldType.tag == TypeTags.UNION && fieldType.isNullable()) {
+            BType nonNilType = null;
+            for (BType memberType : ((BUnionType) fieldType).getMemberTypes()) {
+                if (memberType.tag == TypeTags.NIL) {
+                    continue;
+                }
+                if (nonNilType != null) {
+                    return TypeTags.NONE;
+                }
+                nonNilType = memberType;
+            }
+            fieldType = nonNilType;
+        }
+        switch (fieldType.tag) {
+            case TypeTags.INT:
+            case TypeTags.STRING:
+            case TypeTags.DECIMAL:
+                return fieldType.tag;
+            case TypeTags.FLOAT:
+                return equality ? TypeTags.NONE : fieldType.tag;
+            case TypeTags.BOOLEAN:
+                return equality ? fieldType.tag : TypeTags.NONE;
+            default:
+                return TypeTags.NONE;
+        }
+    }
+
+    private BType getValueType(BLangExpression valueExpr) {
+        // The type of a constant reference is the singleton type of its value.
+        if (valueExpr.getKind() == NodeKind.CONSTANT_REF &&
+                ((BLangConstRef) valueExpr).symbol instanceof BConstantSymbol) {
+            return ((BConstantSymbol) ((BLangConstRef) valueExpr).symbol).literalType;
+        }
+        return valueExpr.type;
+    }
+
+    private OperatorKind flipComparison(OperatorKind opKind) {
+        switch (opKind) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return opKind;
+        }
+    }
+
+    private BLangLiteral createStringLiteral(Location pos, String value) {
+        return ASTBuilderUtil.createLiteral(pos, symTable.stringType, value);
+    }
+
     /**
      * Creates a lambda key function for a given expression.
      * function (_Frame _frame) returns any {
@@ -1934,4 +2837,35 @@ public class QueryDesugar extends BLangNodeVisitor {
         workerReceiveNode.sendExpression.accept(this);
     }
 
+
+    /**
+     * Comparison of a field of the row with a query invariant value, with the field on the left hand side.
+     */
+    private class IndexCondition {
+
+        private final String fieldName;
+        private final OperatorKind opKind;
+        private final BLangExpression valueExpr;
+
+        IndexCondition(String fieldName, OperatorKind opKind, BLangExpression valueExpr) {
+            this.fieldName = fieldName;
+            this.opKind = opKind;
+            this.valueExpr = valueExpr;
+        }
+
+        /**
+         * Creates a copy of the value expression, as the expression itself is desugared as a part of the where clause.
+         */
+        BLangExpression createValueExpr(Location pos) {
+            BLangExpression expr;
+            if (valueExpr.getKind() == NodeKind.CONSTANT_REF) {
+                expr = ASTBuilderUtil.createLiteral(pos, getValueType(valueExpr), ((BLangConstRef) valueExpr).value);
+            } else if (valueExpr.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+                expr = ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) ((BLangSimpleVarRef) valueExpr).symbol);
+            } else {
+                expr = ASTBuilderUtil.createLiteral(pos, valueExpr.type, ((BLangLiteral) valueExpr).value);
+            }
+            return desugar.addConversionExprIfRequired(expr, symTable.anyType);
+        }
+    }
 }
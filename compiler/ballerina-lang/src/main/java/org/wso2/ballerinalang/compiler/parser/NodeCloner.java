@@ -1539,6 +1539,7 @@ public class NodeCloner extends BLangNodeVisitor {
         clone.fieldNameIdentifierList = cloneList(source.fieldNameIdentifierList);
         clone.isStream = source.isStream;
         clone.isTable = source.isTable;
+        clone.isParallel = source.isParallel;
     }
 
     @Override
@@ -38,6 +38,7 @@ public class BLangQueryExpr extends BLangAccessibleExpression implements QueryEx
     public List<IdentifierNode> fieldNameIdentifierList = new ArrayList<>();
     public boolean isStream = false;
     public boolean isTable = false;
+    public boolean isParallel = false;
 
     @Override
     public BLangSelectClause getSelectClause() {
@@ -76,8 +76,10 @@ public type StrandData record {|
 	Thread thread = "parent";
 |};
 
-# Denotes new Strand execution semantics.
-public const annotation StrandData strand on source worker;
+# Denotes new Strand execution semantics. When attached to a variable declaration initialized with a query expression
+# which constructs a list, denotes that the query may be evaluated in parallel strands which run in any available
+# thread, if it is free of side effects.
+public const annotation StrandData strand on source worker, source var;
 
 # Denotes general-purpose metadata to customize how Ballerina symbols are displayed in a UI environment.
 public const annotation record {
@@ -28,12 +28,15 @@ import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalStringUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PrimitiveIterator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -42,11 +45,18 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * Lists of int, float, boolean, byte and string values which are not sorted by a key function are sorted as arrays of
+ * the unboxed values, and very large lists of int, float and string values are sorted in parallel. Other lists are
+ * sorted by a stable merge sort of the positions of the members, where the key function is called once per member.
  *
  * @since 1.0
  */
 public class Sort {
 
+    // Lists smaller than this are sorted in the calling thread.
+    private static final int PARALLEL_SORT_MIN_SIZE = 1 << 16;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
@@ -56,27 +66,32 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        int size = arr.size();
+        if (function == null && sortSimpleValues(arr, elemType.getTag(), size, isAscending)) {
+            return arr;
+        }
+
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
         if (function != null) {
             boolean elementTypeIdentified = false;
             elemType = ((FunctionType) function.getType()).getReturnType();
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                // Get the type of the sortArr elements when there is an arrow expression as the key function
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+                // Get the type of the keys when there is an arrow expression as the key function
                 if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
                         ((UnionType) elemType).getMemberTypes().size() > 2) {
-                    Type sortArrElemType = TypeChecker.getType(sortArr[i][0]);
-                    if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
-                        elemType = sortArrElemType;
+                    Type keyType = TypeChecker.getType(keys[i]);
+                    if (keyType.getTag() != TypeTags.NULL_TAG) {
+                        elemType = keyType;
                         elementTypeIdentified = true;
                     }
                 }
-                sortArr[i][1] = arr.get(i);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                keys[i] = values[i] = arr.get(i);
             }
         }
 
@@ -91,15 +106,133 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        mergesort(keys, positions, new int[size], 0, size - 1, isAscending, elemType);
 
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[positions[k]]);
         }
 
         return arr;
     }
 
+    /**
+     * Sorts a list whose members are stored unboxed, by sorting a primitive array of the members.
+     *
+     * @return false if the members of the list are not stored unboxed
+     */
+    private static boolean sortSimpleValues(BArray arr, int elemTypeTag, int size, boolean isAscending) {
+        if (TypeTags.isIntegerTypeTag(elemTypeTag)) {
+            long[] values = arr.getIntArray();
+            if (size >= PARALLEL_SORT_MIN_SIZE) {
+                Arrays.parallelSort(values);
+            } else {
+                Arrays.sort(values);
+            }
+            for (int i = 0; i < size; i++) {
+                arr.add(i, values[isAscending ? i : size - i - 1]);
+            }
+            return true;
+        }
+        switch (elemTypeTag) {
+            case TypeTags.FLOAT_TAG:
+                sortFloats(arr, size, isAscending);
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                int falseCount = 0;
+                for (int i = 0; i < size; i++) {
+                    if (!arr.getBoolean(i)) {
+                        falseCount++;
+                    }
+                }
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, isAscending ? i >= falseCount : i < size - falseCount);
+                }
+                return true;
+            case TypeTags.BYTE_TAG:
+                int[] byteCounts = new int[256];
+                for (int i = 0; i < size; i++) {
+                    byteCounts[Byte.toUnsignedInt(arr.getByte(i))]++;
+                }
+                int index = 0;
+                for (int b = 0; b < 256; b++) {
+                    int byteValue = isAscending ? b : 255 - b;
+                    for (int count = byteCounts[byteValue]; count > 0; count--) {
+                        arr.add(index++, (byte) byteValue);
+                    }
+                }
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BString[] strings = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    strings[i] = arr.getBString(i);
+                }
+                // Both the sorts are stable.
+                Comparator<BString> comparator = isAscending ?
+                        (str1, str2) -> BalStringUtils.codePointCompare(str1.getValue(), str2.getValue()) :
+                        (str1, str2) -> BalStringUtils.codePointCompare(str2.getValue(), str1.getValue());
+                if (size >= PARALLEL_SORT_MIN_SIZE) {
+                    Arrays.parallelSort(strings, comparator);
+                } else {
+                    Arrays.sort(strings, comparator);
+                }
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, strings[i]);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void sortFloats(BArray arr, int size, boolean isAscending) {
+        double[] values = new double[size];
+        int zeroCount = 0;
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.getFloat(i);
+            if (values[i] == 0) {
+                zeroCount++;
+            }
+        }
+        // -0.0 is equal to +0.0, hence the zeros should keep their order, which is lost when they are sorted.
+        double[] zeros = new double[zeroCount];
+        for (int i = 0, z = 0; z < zeroCount; i++) {
+            if (values[i] == 0) {
+                zeros[z++] = values[i];
+            }
+        }
+        if (size >= PARALLEL_SORT_MIN_SIZE) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+
+        // NaN is sorted last, irrespective of the sort direction.
+        int numberCount = size;
+        while (numberCount > 0 && Double.isNaN(values[numberCount - 1])) {
+            numberCount--;
+        }
+        int firstZero = -1;
+        for (int i = 0; i < numberCount; i++) {
+            int pos = isAscending ? i : numberCount - i - 1;
+            if (values[pos] == 0) {
+                if (firstZero < 0) {
+                    firstZero = i;
+                }
+                arr.add(i, zeros[i - firstZero]);
+            } else {
+                arr.add(i, values[pos]);
+            }
+        }
+        for (int i = numberCount; i < size; i++) {
+            arr.add(i, values[i]);
+        }
+    }
+
     private static Type getMemberType(UnionType unionType) {
         List<Type> memberTypes = unionType.getMemberTypes();
         for (Type type : memberTypes) {
@@ -111,20 +244,21 @@ public class Sort {
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
+    private static void mergesort(Object[] keys, int[] input, int[] aux, int lo, int hi, boolean isAscending,
+                                  Type type) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(keys, input, aux, lo, mid, isAscending, type);
+        mergesort(keys, input, aux, mid + 1, hi, isAscending, type);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(keys, input, aux, lo, mid, hi, isAscending, type);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
+    private static void merge(Object[] keys, int[] input, int[] aux, int lo, int mid, int hi, boolean isAscending,
                               Type type) {
         if (hi + 1 - lo >= 0) {
             System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
@@ -136,9 +270,9 @@ public class Sort {
                 index = j++;
             } else if (j > hi) {
                 index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
+            } else if (isAscending && sortFunc(keys[aux[j]], keys[aux[i]], type, true) < 0) {
                 index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
+            } else if (!isAscending && sortFunc(keys[aux[i]], keys[aux[j]], type, false) < 0) {
                 index = j++;
             } else {
                 index = i++;
@@ -193,7 +327,7 @@ public class Sort {
         } else if (type.getTag() == TypeTags.BOOLEAN_TAG) {
             return Boolean.compare((boolean) value1, (boolean) value2);
         } else if (TypeTags.isStringTypeTag(type.getTag())) {
-            return codePointCompare(value1.toString(), value2.toString());
+            return BalStringUtils.codePointCompare(value1.toString(), value2.toString());
         } else if (type.getTag() == TypeTags.BYTE_TAG) {
             return Integer.compare((int) value1, (int) value2);
         } else if (type.getTag() == TypeTags.ARRAY_TAG) {
@@ -227,25 +361,4 @@ public class Sort {
                                        StringUtils.fromString("expected an ordered type, but found '" +
                                                                        type.toString() + "'"));
     }
-
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
-            }
-        }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
-    }
 }
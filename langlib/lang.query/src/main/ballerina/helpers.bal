@@ -24,6 +24,37 @@ function createPipeline(
     return new _StreamPipeline(collection, resType);
 }
 
+# Creates a pipeline which iterates the rows of a table whose value for the given field is equal to the given value,
+# looking them up in the index of the field. Iterates all the rows if the table cannot be indexed on the field.
+# The rows are looked up when the pipeline is created, so rows added to the table during the iteration are not
+# visited and rows removed from it are still visited, unlike when all the rows are iterated.
+function createIndexedPipeline(table<map<Type>> collection, typedesc<Type> resType, string fieldName, any value)
+            returns _StreamPipeline {
+    if (prepareIndex(collection, fieldName, false)) {
+        Type[]? rows = lookUpIndex(collection, fieldName, value);
+        if (rows is Type[]) {
+            return new _StreamPipeline(rows, resType);
+        }
+    }
+    return new _StreamPipeline(collection, resType);
+}
+
+# Creates a pipeline which iterates the rows of a table whose value for the given field is within the given range,
+# looking them up in the sorted index of the field. Iterates all the rows if the table cannot be indexed on the field.
+# As with `createIndexedPipeline`, the rows are looked up when the pipeline is created.
+function createRangeIndexedPipeline(table<map<Type>> collection, typedesc<Type> resType, string fieldName,
+        boolean hasLower, any lower, boolean lowerInclusive, boolean hasUpper, any upper, boolean upperInclusive)
+            returns _StreamPipeline {
+    if (prepareIndex(collection, fieldName, true)) {
+        Type[]? rows = lookUpIndexRange(collection, fieldName, hasLower, lower, lowerInclusive, hasUpper, upper,
+                                        upperInclusive);
+        if (rows is Type[]) {
+            return new _StreamPipeline(rows, resType);
+        }
+    }
+    return new _StreamPipeline(collection, resType);
+}
+
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
         returns _StreamFunction {
     return new _InputFunction(inputFunc);
@@ -53,6 +84,32 @@ function createOuterJoinFunction(
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
+function createIndexedInnerJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction,
+        table<map<Type>> joinedTable, string fieldName) returns _StreamFunction {
+    return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction,
+        createIndexedJoinSource(joinedPipeline, joinedTable, fieldName));
+}
+
+function createIndexedOuterJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+        table<map<Type>> joinedTable, string fieldName) returns _StreamFunction {
+    return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame,
+        createIndexedJoinSource(joinedPipeline, joinedTable, fieldName));
+}
+
+function createIndexedJoinSource(_StreamPipeline joinedPipeline, table<map<Type>> joinedTable, string fieldName)
+        returns _IndexedJoinSource? {
+    if (prepareIndex(joinedTable, fieldName, false)) {
+        return new _IndexedJoinSource(joinedPipeline, joinedTable, fieldName);
+    }
+    return ();
+}
+
 function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -63,6 +120,12 @@ function createOrderByFunction(function(_Frame _frame) orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
+# Creates an order by function which only keeps the frames within the limit of the limit clause that follows it.
+function createTopKOrderByFunction(function(_Frame _frame) orderFunc, _StreamFunction limitFunction)
+        returns _StreamFunction {
+    return new _OrderByFunction(orderFunc, <_LimitFunction> limitFunction);
+}
+
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
         returns _StreamFunction {
     return new _SelectFunction(selectFunc);
@@ -76,6 +139,60 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+# Returns the given limit of a limit clause, panicking if it is not a positive value.
+function checkLimit(int lmt) returns int {
+    if (lmt < 1) {
+        panic error("Invalid limit", message = "limit cannot be < 1.");
+    }
+    return lmt;
+}
+
+# Evaluates a query over the rows of the given list or table in parallel. The rows are split into chunks, and
+# `chunkFunc` evaluates the query over each chunk in a separate strand, which may run in any available thread. The
+# values selected from the chunks are added to `result` in the order of the chunks, hence the result is the same as
+# evaluating the query sequentially.
+function parallelCollect(Type[]|table<map<Type>> collection,
+        function (Type[] rows, int startIndex, int endIndex) returns any|error? chunkFunc, Type[] result) {
+    Type[] rows;
+    if (collection is Type[]) {
+        rows = collection;
+    } else {
+        rows = [];
+        foreach var row in collection {
+            rows.push(row);
+        }
+    }
+    int rowCount = rows.length();
+    int chunkCount = getParallelChunkCount(rowCount);
+    if (chunkCount < 2) {
+        addChunkResult(chunkFunc(rows, 0, rowCount), result);
+        return;
+    }
+    int chunkSize = (rowCount + chunkCount - 1) / chunkCount;
+    future<any|error?>[] chunks = [];
+    int startIndex = 0;
+    while (startIndex < rowCount) {
+        int endIndex = rowCount - startIndex > chunkSize ? startIndex + chunkSize : rowCount;
+        future<any|error?> chunk = @strand {thread: "any"} start chunkFunc(rows, startIndex, endIndex);
+        chunks.push(chunk);
+        startIndex = endIndex;
+    }
+    foreach var chunk in chunks {
+        addChunkResult(wait chunk, result);
+    }
+}
+
+function addChunkResult(any|error? chunkResult, Type[] result) {
+    if (chunkResult is error) {
+        panic chunkResult;
+    }
+    if (chunkResult is Type[]) {
+        foreach var value in chunkResult {
+            result.push(value);
+        }
+    }
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -150,3 +267,66 @@ function consumeStream(stream<Type, ErrorType> strm) returns error? {
         return v;
     }
 }
+
+function prepareIndex(table<map<Type>> tbl, string fieldName, boolean sorted) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "prepareIndex"
+} external;
+
+function lookUpIndex(table<map<Type>> tbl, string fieldName, any value) returns Type[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "lookUp"
+} external;
+
+function lookUpIndexRange(table<map<Type>> tbl, string fieldName, boolean hasLower, any lower,
+        boolean lowerInclusive, boolean hasUpper, any upper, boolean upperInclusive) returns Type[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "lookUpRange"
+} external;
+
+function initFrameMultiMap(_FrameMultiMap multiMap) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "initFrameMultiMap"
+} external;
+
+function putFrame(_FrameMultiMap multiMap, any key, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "putFrame"
+} external;
+
+function getFrames(_FrameMultiMap multiMap, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrames"
+} external;
+
+# Creates a frame with the entries of both the frames, where the entries of the right hand side frame replace the
+# entries of the left hand side frame with the same keys.
+function mergeFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "mergeFrames"
+} external;
+
+function initFrameSorter(_FrameSorter sorter) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "initFrameSorter"
+} external;
+
+function setSortLimit(_FrameSorter sorter, int lmt) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "setSortLimit"
+} external;
+
+function addSortedFrame(_FrameSorter sorter, _Frame frame, any[] keys, boolean[] directions) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "addSortedFrame"
+} external;
+
+function nextSortedFrame(_FrameSorter sorter) returns _Frame? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "nextSortedFrame"
+} external;
+
+function getParallelChunkCount(int rowCount) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "getParallelChunkCount"
+} external;
@@ -65,12 +65,14 @@ type _Frame record {|
 
 class _StreamPipeline {
     _StreamFunction streamFunction;
+    _InitFunction initFunction;
     typedesc<Type> resType;
 
     function init(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, ErrorType>|_Iterable collection,
             typedesc<Type> resType) {
-        self.streamFunction = new _InitFunction(collection);
+        self.initFunction = new _InitFunction(collection);
+        self.streamFunction = self.initFunction;
         self.resType = resType;
     }
 
@@ -93,6 +95,11 @@ class _StreamPipeline {
         self.streamFunction = streamFunction;
     }
 
+    # Replaces the collection the pipeline iterates, so that the pipeline can be run again on other values.
+    function setCollection(Type[] collection) {
+        self.initFunction.setCollection(collection);
+    }
+
     public function getStream() returns stream <Type, ErrorType> {
         IterHelper itrObj = new (self, self.resType);
         var strm = internal:construct(self.resType, itrObj);
@@ -132,6 +139,12 @@ class _InitFunction {
         }
     }
 
+    function setCollection(Type[] collection) {
+        self.collection = collection;
+        self.resettable = true;
+        self.itr = self._getIterator(collection);
+    }
+
     function _getIterator(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, ErrorType>|_Iterable collection)
                 returns _Iterator {
@@ -313,22 +326,28 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _IndexedJoinSource? indexedSource;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction) {
+            function (_Frame _frame) returns any rhsKeyFunction,
+            _IndexedJoinSource? indexedSource = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.indexedSource = indexedSource;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
+        if (indexedSource is ()) {
+            _Frame|error? f = pipelineToJoin.next();
+            while (f is _Frame) {
+                self.rhsFramesMap.put(rhsKeyFunction(f), f);
+                f = pipelineToJoin.next();
+            }
         }
     }
 
@@ -342,7 +361,6 @@ class _InnerJoinFunction {
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -350,19 +368,20 @@ class _InnerJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                _IndexedJoinSource? indexedSource = self.indexedSource;
+                if (indexedSource is _IndexedJoinSource) {
+                    rhsCandidates = indexedSource.getFrames(lhsKF(lhsFrame));
+                } else {
+                    rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                }
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+            int rhsCandidateIndex = self.rhsCandidateIndex;
+            if (rhsCandidates is _Frame[] && rhsCandidateIndex < rhsCandidates.length()) {
+                self.rhsCandidateIndex = rhsCandidateIndex + 1;
+                return mergeFrames(lhsFrame, rhsCandidates[rhsCandidateIndex]);
             } else {
                 // Move to next lhs frame
                 self.lhsFrame = ();
@@ -389,24 +408,30 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _IndexedJoinSource? indexedSource;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
+            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+            _IndexedJoinSource? indexedSource = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.indexedSource = indexedSource;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
+        if (indexedSource is ()) {
+            _Frame|error? f = pipelineToJoin.next();
+            while (f is _Frame) {
+                self.rhsFramesMap.put(rhsKeyFunction(f), f);
+                f = pipelineToJoin.next();
+            }
         }
     }
 
@@ -421,7 +446,6 @@ class _OuterJoinFunction {
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -429,34 +453,31 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                _IndexedJoinSource? indexedSource = self.indexedSource;
+                if (indexedSource is _IndexedJoinSource) {
+                    rhsCandidates = indexedSource.getFrames(lhsKF(lhsFrame));
+                } else {
+                    rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                }
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int rhsCandidateIndex = self.rhsCandidateIndex;
+                if (rhsCandidateIndex + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = rhsCandidateIndex + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+                return mergeFrames(lhsFrame, rhsCandidates[rhsCandidateIndex]);
             } else {
                 // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
                 self.lhsFrame = ();
-                return joinedFrame;
+                return mergeFrames(lhsFrame, nilFrame);
             }
         }
         return lhsFrame;
@@ -510,43 +531,48 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    # Limit which follows the order by clause, if its value does not change during the query.
+    _LimitFunction? limitFunction;
+    _FrameSorter? sorter;
 
-    function init(function(_Frame _frame) orderKeyFunc) {
+    function init(function(_Frame _frame) orderKeyFunc, _LimitFunction? limitFunction = ()) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.limitFunction = limitFunction;
+        self.sorter = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
-            _StreamFunction pf = <_StreamFunction> self.prevFunc;
-            function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
-            _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
-            // consume all events for ordering.
-            while (f is _Frame) {
-                orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
-                f = pf.process();
-            }
-            if (f is error) {
-                return f;
-            }
-            self.orderedStream = oTree.get().toStream();
+        _FrameSorter? currentSorter = self.sorter;
+        if (currentSorter is _FrameSorter) {
+            return currentSorter.next();
+        }
+
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
+        _FrameSorter sorter = new;
+        _Frame|error? f = pf.process();
+        _LimitFunction? limitFunction = self.limitFunction;
+        if (f is _Frame && limitFunction is _LimitFunction) {
+            // only the frames within the limit are kept.
+            function (_Frame _frame) returns int limitFunc = limitFunction.limitFunc;
+            sorter.setLimit(limitFunc(f));
+        }
+        // consume all events for ordering.
+        while (f is _Frame) {
+            orderKeyFunc(f);
+            sorter.add(f, <any[]>(checkpanic f["$orderKey$"]), <boolean[]>(checkpanic f["$orderDirection$"]));
+            f = pf.process();
         }
-
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        if (f is error) {
+            return f;
         }
-        return f;
+        self.sorter = sorter;
+        return sorter.next();
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.sorter = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -641,11 +667,7 @@ class _LimitFunction {
         function (_Frame _frame) returns int limitFunc = self.limitFunc;
         _Frame|error? pFrame = pf.process();
         if (pFrame is _Frame) {
-            int lmt = limitFunc(pFrame);
-            if (lmt < 1) {
-                panic error("Invalid limit", message = "limit cannot be < 1.");
-            }
-            if (self.count < lmt) {
+            if (self.count < checkLimit(limitFunc(pFrame))) {
                 self.count += 1;
                 return pFrame;
             }
@@ -665,36 +687,55 @@ class _LimitFunction {
 
 // ---- helper types ----
 
-class _FrameMultiMap {
-    map<_Frame[]> m;
+# Finds the frames to be joined by looking up the rows of a table in the index of the joined field, instead of
+# consuming all the rows of the table up front.
+class _IndexedJoinSource {
+    _StreamPipeline pipelineToJoin;
+    table<map<Type>> tbl;
+    string fieldName;
 
-    function init() {
-        self.m = {};
+    function init(_StreamPipeline pipelineToJoin, table<map<Type>> tbl, string fieldName) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.tbl = tbl;
+        self.fieldName = fieldName;
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
+    # Runs the rows with the given key through the pipeline to be joined.
+    # + return - frames of the rows, or nil if there are no rows with the key
+    function getFrames(any key) returns _Frame[]? {
+        Type[]? rows = lookUpIndex(self.tbl, self.fieldName, key);
+        if (rows is () || rows.length() == 0) {
+            return ();
+        }
+        _StreamPipeline pipelineToJoin = self.pipelineToJoin;
+        pipelineToJoin.setCollection(rows);
+        _Frame[] frames = [];
+        _Frame|error? f = pipelineToJoin.next();
+        while (f is _Frame) {
+            frames.push(f);
+            f = pipelineToJoin.next();
         }
+        return frames;
     }
+}
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+# Multimap of the frames to be joined, keyed by the value of the join key. The keys are hashed and matched using the
+# equality of the values.
+class _FrameMultiMap {
+
+    function init() {
+        initFrameMultiMap(self);
+    }
+
+    function put(any k, _Frame v) {
+        putFrame(self, k, v);
     }
 
+    # Returns the frames of the given key, which should not be modified.
+    # + return - frames of the key, or nil if there are no frames with the key
+    function get(any k) returns _Frame[]? {
+        return getFrames(self, k);
+    }
 }
 
 class IterHelper {
@@ -718,106 +759,25 @@ class IterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
+class _FrameSorter {
 
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
+    function init() {
+        initFrameSorter(self);
     }
 
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
+    # Keeps only the given number of frames which come first in the order.
+    function setLimit(int lmt) {
+        setSortLimit(self, lmt);
     }
 
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
+    # adds a _Frame with the values and the directions of its order keys.
+    function add(_Frame f, any[] keys, boolean[] directions) {
+        addSortedFrame(self, f, keys, directions);
+    }
+
+    # Returns the next frame in the order.
+    # + return - next frame, or nil if all the frames were returned
+    function next() returns _Frame? {
+        return nextSortedFrame(self);
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Native implementation of the multimap which holds the frames of the right hand side of a join, keyed by the value of
+ * the join key. The keys are matched using the Ballerina equality of the values, without converting them to strings.
+ *
+ * @since 2.0.0
+ */
+public class FrameMultiMap {
+
+    private static final String FRAMES = "FRAMES";
+
+    public static void initFrameMultiMap(BObject multiMap) {
+        multiMap.addNativeData(FRAMES, new HashMap<JoinKey, BArray>());
+    }
+
+    public static void putFrame(BObject multiMap, Object key, BMap<BString, Object> frame) {
+        BArray frames = getFrameMap(multiMap).computeIfAbsent(new JoinKey(key),
+                k -> ValueCreator.createArrayValue(TypeCreator.createArrayType(frame.getType())));
+        frames.append(frame);
+    }
+
+    /**
+     * Returns the frames of the given key. The frames are not copied, hence they should not be modified by the caller.
+     *
+     * @param multiMap the multimap
+     * @param key      the join key
+     * @return the frames, or null if there are no frames with the key
+     */
+    public static BArray getFrames(BObject multiMap, Object key) {
+        return getFrameMap(multiMap).get(new JoinKey(key));
+    }
+
+    /**
+     * Creates a frame with the entries of both the given frames. The entries of the right hand side frame replace the
+     * entries of the left hand side frame with the same keys.
+     *
+     * @param lhsFrame left hand side frame
+     * @param rhsFrame right hand side frame
+     * @return the joined frame
+     */
+    public static BMap<BString, Object> mergeFrames(BMap<BString, Object> lhsFrame, BMap<BString, Object> rhsFrame) {
+        BMap<BString, Object> joinedFrame = ValueCreator.createMapValue(lhsFrame.getType());
+        for (Map.Entry<BString, Object> entry : lhsFrame.entrySet()) {
+            joinedFrame.put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<BString, Object> entry : rhsFrame.entrySet()) {
+            joinedFrame.put(entry.getKey(), entry.getValue());
+        }
+        return joinedFrame;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<JoinKey, BArray> getFrameMap(BObject multiMap) {
+        return (Map<JoinKey, BArray>) multiMap.getNativeData(FRAMES);
+    }
+
+    /**
+     * Join key which is hashed by its shape and compared using the Ballerina equality. Decimals which differ only in
+     * trailing zeros match each other, NaN matches NaN and nil matches nil, while an int never matches a float.
+     */
+    private static final class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = Long.hashCode(TableUtils.hash(value, null));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) obj;
+            // The runtime equality treats an int as equal to a float with the same integral value, hence the float
+            // keys are only compared with other float keys in case their hashes collide.
+            return hash == other.hash && (value instanceof Double) == (other.value instanceof Double) &&
+                    TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalStringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Native implementation of the sorter of the frames of an order by clause. The order keys of each frame are compared
+ * natively, and frames with equal keys are kept in the order they were added.
+ * <p>
+ * When the order by clause is followed by a limit clause, only the frames within the limit are kept, in a bounded
+ * heap whose head is the greatest frame kept so far. Hence ordering n frames with a limit of k takes O(n log k) time
+ * and O(k) memory instead of sorting all the frames.
+ *
+ * @since 2.0.0
+ */
+public class FrameSorter {
+
+    private static final String SORTER = "SORTER";
+
+    public static void initFrameSorter(BObject sorter) {
+        sorter.addNativeData(SORTER, new Sorter());
+    }
+
+    /**
+     * Limits the frames kept by the sorter to the given number of frames which come first in the order. Should be
+     * called before any frame is added.
+     *
+     * @param sorter the sorter
+     * @param limit  maximum number of frames to keep
+     */
+    public static void setSortLimit(BObject sorter, long limit) {
+        getSorter(sorter).setLimit(limit);
+    }
+
+    public static void addSortedFrame(BObject sorter, BMap<BString, Object> frame, BArray keys, BArray directions) {
+        getSorter(sorter).add(frame, keys, directions);
+    }
+
+    /**
+     * Returns the next frame in the order. The frames are sorted when this is called for the first time.
+     *
+     * @param sorter the sorter
+     * @return the next frame, or null if all the frames were returned
+     */
+    public static BMap<BString, Object> nextSortedFrame(BObject sorter) {
+        return getSorter(sorter).next();
+    }
+
+    private static Sorter getSorter(BObject sorter) {
+        return (Sorter) sorter.getNativeData(SORTER);
+    }
+
+    /**
+     * Compares two order key values, placing () last and then NaN last irrespective of the direction, as in
+     * lang.array:sort().
+     */
+    private static int compareKeys(Object value1, Object value2, boolean ascending) {
+        if (value1 == null || value2 == null) {
+            return value1 == null ? (value2 == null ? 0 : 1) : -1;
+        }
+        if (value1 instanceof Double && value2 instanceof Double) {
+            boolean isNaN1 = Double.isNaN((Double) value1);
+            boolean isNaN2 = Double.isNaN((Double) value2);
+            if (isNaN1 || isNaN2) {
+                return isNaN1 ? (isNaN2 ? 0 : 1) : -1;
+            }
+        }
+        int result = compareValues(value1, value2);
+        return ascending ? result : -result;
+    }
+
+    private static int compareValues(Object value1, Object value2) {
+        int rank1 = rank(value1);
+        int rank2 = rank(value2);
+        if (rank1 != rank2) {
+            return Integer.compare(rank1, rank2);
+        }
+        switch (rank1) {
+            case 0:
+                return Boolean.compare((Boolean) value1, (Boolean) value2);
+            case 1:
+                return Long.compare(((Number) value1).longValue(), ((Number) value2).longValue());
+            case 2:
+                double double1 = (Double) value1;
+                double double2 = (Double) value2;
+                // -0.0 is equal to 0.0.
+                return double1 == double2 ? 0 : Double.compare(double1, double2);
+            case 3:
+                return ((BDecimal) value1).decimalValue().compareTo(((BDecimal) value2).decimalValue());
+            case 4:
+                return BalStringUtils.codePointCompare(((BString) value1).getValue(), ((BString) value2).getValue());
+            case 5:
+                BArray array1 = (BArray) value1;
+                BArray array2 = (BArray) value2;
+                int length = Math.min(array1.size(), array2.size());
+                for (int i = 0; i < length; i++) {
+                    int result = compareKeys(array1.get(i), array2.get(i), true);
+                    if (result != 0) {
+                        return result;
+                    }
+                }
+                return Integer.compare(array1.size(), array2.size());
+            default:
+                return 0;
+        }
+    }
+
+    private static int rank(Object value) {
+        if (value instanceof Boolean) {
+            return 0;
+        } else if (value instanceof Long || value instanceof Integer) {
+            return 1;
+        } else if (value instanceof Double) {
+            return 2;
+        } else if (value instanceof BDecimal) {
+            return 3;
+        } else if (value instanceof BString) {
+            return 4;
+        } else if (value instanceof BArray) {
+            return 5;
+        }
+        return 6;
+    }
+
+    /**
+     * Frame with the values of its order keys and the position it was added at.
+     */
+    private static final class SortEntry {
+
+        private final BMap<BString, Object> frame;
+        private final Object[] keys;
+        private final long sequence;
+
+        SortEntry(BMap<BString, Object> frame, Object[] keys, long sequence) {
+            this.frame = frame;
+            this.keys = keys;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * State of a sorter.
+     */
+    private static final class Sorter {
+
+        private final Comparator<SortEntry> comparator = this::compare;
+        private boolean[] ascending;
+        private long limit = -1;
+        private long sequence;
+        private List<SortEntry> entries = new ArrayList<>();
+        private PriorityQueue<SortEntry> topEntries;
+        private SortEntry[] sortedEntries;
+        private int position;
+
+        void setLimit(long limit) {
+            if (limit < 1 || limit >= Integer.MAX_VALUE) {
+                return;
+            }
+            this.limit = limit;
+            this.entries = null;
+            this.topEntries = new PriorityQueue<>((int) Math.min(limit, 1024), comparator.reversed());
+        }
+
+        void add(BMap<BString, Object> frame, BArray keys, BArray directions) {
+            if (ascending == null) {
+                ascending = new boolean[directions.size()];
+                for (int i = 0; i < ascending.length; i++) {
+                    ascending[i] = directions.getBoolean(i);
+                }
+            }
+            Object[] keyValues = new Object[keys.size()];
+            for (int i = 0; i < keyValues.length; i++) {
+                keyValues[i] = keys.get(i);
+            }
+            SortEntry entry = new SortEntry(frame, keyValues, sequence++);
+            if (topEntries == null) {
+                entries.add(entry);
+            } else if (topEntries.size() < limit) {
+                topEntries.add(entry);
+            } else if (compare(entry, topEntries.peek()) < 0) {
+                topEntries.poll();
+                topEntries.add(entry);
+            }
+        }
+
+        BMap<BString, Object> next() {
+            if (sortedEntries == null) {
+                Collection<SortEntry> added = topEntries == null ? entries : topEntries;
+                sortedEntries = added.toArray(new SortEntry[0]);
+                Arrays.sort(sortedEntries, comparator);
+                entries = null;
+                topEntries = null;
+            }
+            if (position == sortedEntries.length) {
+                return null;
+            }
+            SortEntry entry = sortedEntries[position];
+            sortedEntries[position++] = null;
+            return entry.frame;
+        }
+
+        private int compare(SortEntry entry1, SortEntry entry2) {
+            for (int i = 0; i < entry1.keys.length; i++) {
+                int result = compareKeys(entry1.keys[i], entry2.keys[i], ascending[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Long.compare(entry1.sequence, entry2.sequence);
+        }
+    }
+}
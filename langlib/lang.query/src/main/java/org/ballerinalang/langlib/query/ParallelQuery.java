@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+/**
+ * Native helpers of the queries which are evaluated in parallel over chunks of their rows.
+ *
+ * @since 2.0.0
+ */
+public class ParallelQuery {
+
+    // Chunks smaller than this are not worth the cost of scheduling a strand.
+    private static final long MIN_ROWS_PER_CHUNK = 1024;
+
+    /**
+     * Returns the number of chunks to split the given number of rows into. There is at most one chunk per available
+     * processor, and each chunk has at least {@link #MIN_ROWS_PER_CHUNK} rows.
+     *
+     * @param rowCount number of rows
+     * @return the number of chunks, which is less than 2 if the rows should not be split
+     */
+    public static long getParallelChunkCount(long rowCount) {
+        return Math.min(Runtime.getRuntime().availableProcessors(), rowCount / MIN_ROWS_PER_CHUNK);
+    }
+}
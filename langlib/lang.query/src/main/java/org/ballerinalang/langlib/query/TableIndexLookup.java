@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Native functions used by lang.query to look up the rows of a table using the secondary indexes of the table.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexLookup {
+
+    public static boolean prepareIndex(BTable table, BString fieldName, boolean sorted) {
+        return table instanceof TableValueImpl && ((TableValueImpl<?, ?>) table).prepareIndex(fieldName, sorted);
+    }
+
+    public static BArray lookUp(BTable table, BString fieldName, Object value) {
+        Object[] rows = ((TableValueImpl<?, ?>) table).lookUpIndex(fieldName, value);
+        return createRowArray(table, rows);
+    }
+
+    public static BArray lookUpRange(BTable table, BString fieldName, boolean hasLower, Object lower,
+                                     boolean lowerInclusive, boolean hasUpper, Object upper, boolean upperInclusive) {
+        Object[] rows = ((TableValueImpl<?, ?>) table).lookUpIndex(fieldName, hasLower ? lower : null,
+                                                                   lowerInclusive, hasUpper ? upper : null,
+                                                                   upperInclusive);
+        return createRowArray(table, rows);
+    }
+
+    private static BArray createRowArray(BTable table, Object[] rows) {
+        if (rows == null) {
+            return null;
+        }
+        TableType tableType = (TableType) table.getType();
+        return ValueCreator.createArrayValue(rows, TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+}
@@ -525,6 +525,9 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
+                "testSort12",
+                "testSort13",
                 "testReadOnlyArrayFilter"
         };
     }
@@ -1106,6 +1106,68 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float negativeZero = 0.0 * -1.0;
+    float nan = 0.0 / 0.0;
+    float[] arr = [3.5, nan, negativeZero, 1.0, 0.0, -2.0, nan, negativeZero, 0.0];
+    float[] arr2 = arr.clone();
+    float[] arr3 = arr.clone();
+    float[] arr4 = arr.clone();
+
+    // NaN is sorted last, and -0.0 and 0.0 are equal, hence keep their order.
+    float[] sortedArr = arr.sort();
+    assertValueEquality("[-2.0,-0.0,0.0,-0.0,0.0,1.0,3.5,NaN,NaN]", sortedArr.toString());
+    assertValueEquality(sortedArr, arr);
+
+    float[] sortedArr2 = arr2.sort(array:DESCENDING);
+    assertValueEquality("[3.5,1.0,-0.0,0.0,-0.0,0.0,-2.0,NaN,NaN]", sortedArr2.toString());
+
+    // The same order as sorting by a key function.
+    float[] sortedArr3 = arr3.sort(array:ASCENDING, isolated function(float f) returns float => f);
+    assertValueEquality(sortedArr.toString(), sortedArr3.toString());
+    float[] sortedArr4 = arr4.sort(array:DESCENDING, isolated function(float f) returns float => f);
+    assertValueEquality(sortedArr2.toString(), sortedArr4.toString());
+}
+
+function testSort12() {
+    byte[] bytes = [200, 3, 255, 0, 3, 128, 7];
+    byte[] bytes2 = bytes.clone();
+
+    byte[] sortedBytes = bytes.sort();
+    assertValueEquality(<byte[]>[0, 3, 3, 7, 128, 200, 255], sortedBytes);
+    assertValueEquality(sortedBytes, bytes);
+    byte[] sortedBytes2 = bytes2.sort(array:DESCENDING);
+    assertValueEquality(<byte[]>[255, 200, 128, 7, 3, 3, 0], sortedBytes2);
+
+    boolean[] flags = [true, false, true, false, false];
+    boolean[] flags2 = flags.clone();
+
+    boolean[] sortedFlags = flags.sort();
+    assertValueEquality([false, false, false, true, true], sortedFlags);
+    assertValueEquality(sortedFlags, flags);
+    boolean[] sortedFlags2 = flags2.sort(array:DESCENDING);
+    assertValueEquality([true, true, false, false, false], sortedFlags2);
+
+    boolean[] noFlags = [];
+    assertValueEquality(<boolean[]>[], noFlags.sort(array:DESCENDING));
+}
+
+function testSort13() {
+    int[] arr = [5, -1, 3, 0, -7, 3];
+    int[] sortedArr = arr.sort(array:DESCENDING);
+    assertValueEquality([5, 3, 3, 0, -1, -7], sortedArr);
+    assertValueEquality(sortedArr, arr);
+
+    // Strings are ordered by their code points, hence a supplementary character is greater than the other characters.
+    string[] strings = ["b", "a", "\u{1F600}", "\u{FF5E}", "ab"];
+    string[] strings2 = strings.clone();
+    string[] sortedStrings = strings.sort(array:DESCENDING);
+    assertValueEquality(["\u{1F600}", "\u{FF5E}", "b", "ab", "a"], sortedStrings);
+    assertValueEquality(sortedStrings, strings);
+    string[] sortedStrings2 = strings2.sort();
+    assertValueEquality(["a", "ab", "b", "\u{FF5E}", "\u{1F600}"], sortedStrings2);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
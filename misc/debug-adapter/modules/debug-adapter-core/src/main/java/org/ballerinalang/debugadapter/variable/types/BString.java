@@ -16,13 +16,16 @@
 
 package org.ballerinalang.debugadapter.variable.types;
 
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BSimpleVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.JVMValueType;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
 import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFrom;
+import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringValue;
 
 /**
  * Ballerina string variable type.
@@ -36,6 +39,11 @@ public class BString extends BSimpleVariable {
     @Override
     public String computeValue() {
         try {
+            // The characters of concatenated strings are only copied into a single string when they are read.
+            if (jvmValue instanceof ObjectReference && ((ObjectReference) jvmValue).referenceType().name()
+                    .equals(JVMValueType.ROPESTRING.getString())) {
+                return getStringValue(context, jvmValue);
+            }
             return getStringFrom(jvmValue);
         } catch (Exception ignored) {
             return UNKNOWN_VALUE;
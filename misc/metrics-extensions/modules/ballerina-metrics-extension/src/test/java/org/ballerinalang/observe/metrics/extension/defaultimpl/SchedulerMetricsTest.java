@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.SchedulerMetrics;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+/**
+ * Tests for {@link SchedulerMetrics}.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetricsTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void init() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricRegistry = new MetricRegistry(metricProvider);
+    }
+
+    @Test
+    public void testRegisterSchedulerMetrics() {
+        SchedulerMetrics.register(metricRegistry);
+        SchedulerMetrics.register(metricRegistry);
+        Assert.assertEquals(metricRegistry.getAllMetrics().length, 7);
+
+        Metric queueDepth = metricRegistry.lookup(new MetricId("scheduler_runnable_queue_depth", null,
+                                                               Collections.emptySet()));
+        Assert.assertTrue(queueDepth instanceof PolledGauge);
+        Assert.assertTrue(((PolledGauge) queueDepth).getValue() >= 0);
+
+        Metric utilization = metricRegistry.lookup(new MetricId("scheduler_worker_utilization", null,
+                                                                Collections.emptySet()));
+        Assert.assertTrue(utilization instanceof PolledGauge);
+        double utilizationValue = ((PolledGauge) utilization).getValue();
+        Assert.assertTrue(utilizationValue >= 0 && utilizationValue <= 1);
+    }
+}
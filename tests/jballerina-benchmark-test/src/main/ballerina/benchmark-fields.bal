@@ -0,0 +1,105 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Field access benchmarks. Each benchmark iteration reads and updates the fields of an object or a record 1000 times.
+
+const int FIELD_ACCESS_COUNT = 1000;
+
+class Account {
+    int balance = 0;
+    float rate = 0.01;
+    string owner;
+
+    function init(string owner) {
+        self.owner = owner;
+    }
+}
+
+type Position record {|
+    int x;
+    int y;
+    string label;
+|};
+
+public function benchmarkObjectFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    Account account = new ("owner");
+    foreach int i in 0 ..< warmupCount {
+        updateAccount(account);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        updateAccount(account);
+    }
+    return nanoTime() - startTime;
+}
+
+function updateAccount(Account account) {
+    foreach int i in 0 ..< FIELD_ACCESS_COUNT {
+        account.balance = account.balance + i;
+        account.rate = account.rate * 1.0;
+        account.owner = account.owner;
+    }
+}
+
+public function benchmarkRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    Position position = {x: 1, y: 2, label: "origin"};
+    int sum = 0;
+    foreach int i in 0 ..< warmupCount {
+        sum += sumPosition(position);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        sum += sumPosition(position);
+    }
+    return nanoTime() - startTime;
+}
+
+function sumPosition(Position position) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< FIELD_ACCESS_COUNT {
+        sum += position.x + position.y + position.label.length();
+    }
+    return sum;
+}
+
+type PriceMetric record {
+    int count;
+    float total;
+    boolean updated;
+};
+
+public function benchmarkRecordFieldUpdate(int warmupCount, int benchmarkCount) returns int {
+    PriceMetric metric = {count: 0, total: 0, updated: false};
+    foreach int i in 0 ..< warmupCount {
+        updatePriceMetric(metric);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        updatePriceMetric(metric);
+    }
+    return nanoTime() - startTime;
+}
+
+function updatePriceMetric(PriceMetric metric) {
+    foreach int i in 0 ..< FIELD_ACCESS_COUNT {
+        metric.count = metric.count + 1;
+        metric.total = metric.total + 0.25;
+        metric.updated = true;
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int LOCK_COUNT = 5000;
+
+int lockedCounter = 0;
+
+# Adds the given number of locks to the lock store of this module.
+#
+# + count - Number of locks to be added
+function addLocks(int count) = @java:Method {
+    name: "addLocks",
+    'class: "org.ballerinalang.benchmark.nativeimpl.LockUtils"
+} external;
+
+function incrementLockedCounter() {
+    lock {
+        lockedCounter += 1;
+    }
+}
+
+function startWithLocks(int count) {
+    int i = 0;
+    while (i < count) {
+        future<()> f = start incrementLockedCounter();
+        _ = wait f;
+        i += 1;
+    }
+}
+
+// Async calls check whether the calling strand is inside a lock. Run with thousands of locks in the module lock store
+// to make sure the check does not depend on the number of locks in the module.
+public function benchmarkAsyncCallWithManyLocks(int warmupCount, int benchmarkCount) returns int {
+    addLocks(LOCK_COUNT);
+    startWithLocks(warmupCount);
+
+    int startTime = nanoTime();
+    startWithLocks(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// Mapping value benchmarks. The `*Baseline` benchmarks run the same operations on a `java.util.LinkedHashMap`, which
+// was the storage used by mapping values earlier, so that the two can be compared.
+
+const int MAP_FIELD_COUNT = 16;
+
+type OpenRecord record {
+    int id;
+    string name;
+};
+
+# Puts the given keys to a new `java.util.LinkedHashMap`, reads them back and iterates over the map, `count` times.
+#
+# + keys - Keys of the map
+# + count - Number of maps to be created
+# + return - Sum of the values read
+function linkedHashMapPutGetIterate(string[] keys, int count) returns int = @java:Method {
+    name: "putGetIterate",
+    'class: "org.ballerinalang.benchmark.nativeimpl.MapBaselineUtils"
+} external;
+
+# Creates `count` `java.util.LinkedHashMap`s with the given keys and keeps them reachable until all are created.
+#
+# + keys - Keys of the map
+# + count - Number of maps to be created
+function createLinkedHashMaps(string[] keys, int count) = @java:Method {
+    name: "createMaps",
+    'class: "org.ballerinalang.benchmark.nativeimpl.MapBaselineUtils"
+} external;
+
+function mapKeys() returns string[] {
+    string[] keys = [];
+    foreach int i in 0 ..< MAP_FIELD_COUNT {
+        keys.push("field" + i.toString());
+    }
+    return keys;
+}
+
+function putGetIterate(string[] keys, int count) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< count {
+        map<int> m = {};
+        foreach int j in 0 ..< keys.length() {
+            m[keys[j]] = j;
+        }
+        foreach string key in keys {
+            sum += m.get(key);
+        }
+        foreach int value in m {
+            sum += value;
+        }
+    }
+    return sum;
+}
+
+function createMaps(string[] keys, int count) {
+    map<int>[] maps = [];
+    foreach int i in 0 ..< count {
+        map<int> m = {};
+        foreach int j in 0 ..< keys.length() {
+            m[keys[j]] = j;
+        }
+        maps.push(m);
+    }
+}
+
+function createJsonObjects(int count) {
+    json[] objects = [];
+    foreach int i in 0 ..< count {
+        json obj = {id: i, name: "name", active: true, score: 1.5, tags: ["a", "b"], address: {city: "Colombo"}};
+        objects.push(obj);
+    }
+}
+
+function createOpenRecords(int count) {
+    OpenRecord[] records = [];
+    foreach int i in 0 ..< count {
+        OpenRecord rec = {id: i, name: "name", "email": "a@b.com", "age": 30};
+        records.push(rec);
+    }
+}
+
+public function benchmarkMapPutGetIterate(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = mapKeys();
+    int sum = putGetIterate(keys, warmupCount);
+
+    int startTime = nanoTime();
+    sum += putGetIterate(keys, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkMapPutGetIterateBaseline(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = mapKeys();
+    int sum = linkedHashMapPutGetIterate(keys, warmupCount);
+
+    int startTime = nanoTime();
+    sum += linkedHashMapPutGetIterate(keys, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkMapFootprint(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = mapKeys();
+    createMaps(keys, warmupCount);
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    createMaps(keys, benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkMapFootprint", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
+
+public function benchmarkMapFootprintBaseline(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = mapKeys();
+    createLinkedHashMaps(keys, warmupCount);
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    createLinkedHashMaps(keys, benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkMapFootprintBaseline", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
+
+public function benchmarkJsonObjectFootprint(int warmupCount, int benchmarkCount) returns int {
+    createJsonObjects(warmupCount);
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    createJsonObjects(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkJsonObjectFootprint", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
+
+public function benchmarkOpenRecordFootprint(int warmupCount, int benchmarkCount) returns int {
+    createOpenRecords(warmupCount);
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    createOpenRecords(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkOpenRecordFootprint", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
@@ -0,0 +1,309 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Query benchmarks. The join benchmarks join one left hand side row per benchmark iteration with `JOIN_ROW_COUNT`
+// right hand side rows, hence a run with 100000 benchmark iterations joins 100k x 100k rows. The other benchmarks run
+// one query over `QUERY_ROW_COUNT` rows per benchmark iteration, except the parallel query benchmarks which run one
+// query over `PARALLEL_QUERY_ROW_COUNT` rows per benchmark iteration.
+
+const int JOIN_ROW_COUNT = 100000;
+const int QUERY_ROW_COUNT = 1000;
+const int PARALLEL_QUERY_ROW_COUNT = 100000;
+
+type Customer record {|
+    int id;
+    string name;
+|};
+
+type Order record {|
+    int id;
+    int customerId;
+    string customerName;
+    float amount;
+|};
+
+function createCustomers(int count) returns Customer[] {
+    Customer[] customers = [];
+    foreach int i in 0 ..< count {
+        customers.push({id: i, name: "customer" + i.toString()});
+    }
+    return customers;
+}
+
+function createOrders(int startId, int count) returns Order[] {
+    Order[] orders = [];
+    foreach int i in startId ..< startId + count {
+        int customerId = (i * 7919) % JOIN_ROW_COUNT;
+        orders.push({id: i, customerId: customerId, customerName: "customer" + customerId.toString(), amount: 10.0});
+    }
+    return orders;
+}
+
+function joinOrdersWithCustomers(Order[] orders, Customer[] customers) returns int {
+    record {| int orderId; string name; |}[] joined = from var o in orders
+        join var c in customers on o.customerId equals c.id
+        select {orderId: o.id, name: c.name};
+    return joined.length();
+}
+
+function joinOrdersWithCustomersByName(Order[] orders, Customer[] customers) returns int {
+    record {| int orderId; int customerId; |}[] joined = from var o in orders
+        join var c in customers on o.customerName equals c.name
+        select {orderId: o.id, customerId: c.id};
+    return joined.length();
+}
+
+function outerJoinOrdersWithCustomers(Order[] orders, Customer[] customers) returns int {
+    record {| int orderId; string? name; |}[] joined = from var o in orders
+        outer join var c in customers on o.customerId equals c.id
+        select {orderId: o.id, name: c.name};
+    return joined.length();
+}
+
+public function benchmarkQueryJoin(int warmupCount, int benchmarkCount) returns int {
+    Customer[] customers = createCustomers(JOIN_ROW_COUNT);
+    int count = joinOrdersWithCustomers(createOrders(0, warmupCount), customers);
+    Order[] orders = createOrders(warmupCount, benchmarkCount);
+
+    int startTime = nanoTime();
+    count += joinOrdersWithCustomers(orders, customers);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryJoinByStringKey(int warmupCount, int benchmarkCount) returns int {
+    Customer[] customers = createCustomers(JOIN_ROW_COUNT);
+    int count = joinOrdersWithCustomersByName(createOrders(0, warmupCount), customers);
+    Order[] orders = createOrders(warmupCount, benchmarkCount);
+
+    int startTime = nanoTime();
+    count += joinOrdersWithCustomersByName(orders, customers);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOuterJoin(int warmupCount, int benchmarkCount) returns int {
+    // Every other order does not have a customer.
+    Customer[] customers = from var c in createCustomers(JOIN_ROW_COUNT) where c.id % 2 == 0 select c;
+    int count = outerJoinOrdersWithCustomers(createOrders(0, warmupCount), customers);
+    Order[] orders = createOrders(warmupCount, benchmarkCount);
+
+    int startTime = nanoTime();
+    count += outerJoinOrdersWithCustomers(orders, customers);
+    return (nanoTime() - startTime);
+}
+
+type OrderSummary record {|
+    int id;
+    float total;
+|};
+
+function selectLargeOrders(Order[] orders) returns OrderSummary[] {
+    return from var o in orders
+        where o.customerId % 2 == 0
+        select {id: o.id, total: o.amount * 1.5};
+}
+
+function selectFirstLargeOrders(Order[] orders) returns OrderSummary[] {
+    return from var o in orders
+        let float total = o.amount * 1.5
+        where o.customerId % 2 == 0
+        limit 100
+        select {id: o.id, total: total};
+}
+
+function selectLargeOrdersFromMap(map<Order> orders) returns int[] {
+    return from var o in orders
+        where o.customerId % 2 == 0
+        select o.id;
+}
+
+function selectLargeOrdersFromTable(table<Order> key(id) orders) returns int[] {
+    return from var o in orders
+        where o.customerId % 2 == 0
+        select o.id;
+}
+
+function orderOrdersByCustomer(Order[] orders) returns int[] {
+    return from var o in orders
+        order by o.customerName descending, o.id ascending
+        select o.id;
+}
+
+function selectTopOrdersByCustomer(Order[] orders) returns int[] {
+    return from var o in orders
+        order by o.customerName descending, o.id ascending
+        limit 10
+        select o.id;
+}
+
+function selectLargeOrdersSequentially(Order[] orders) returns OrderSummary[] {
+    OrderSummary[] summaries = from var o in orders
+        where o.customerId % 2 == 0
+        select {id: o.id, total: o.amount * 1.5};
+    return summaries;
+}
+
+function selectLargeOrdersInParallel(Order[] orders) returns OrderSummary[] {
+    @strand {thread: "any"}
+    OrderSummary[] summaries = from var o in orders
+        where o.customerId % 2 == 0
+        select {id: o.id, total: o.amount * 1.5};
+    return summaries;
+}
+
+function streamLargeOrders(Order[] orders) returns int {
+    stream<OrderSummary> summaries = stream from var o in orders
+        where o.customerId % 2 == 0
+        select {id: o.id, total: o.amount * 1.5};
+    int count = 0;
+    record {| OrderSummary value; |}? summary = summaries.next();
+    while (summary is record {| OrderSummary value; |}) {
+        count += 1;
+        summary = summaries.next();
+    }
+    return count;
+}
+
+public function benchmarkQueryWhereSelect(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectLargeOrders(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectLargeOrders(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryLetWhereLimit(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectFirstLargeOrders(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectFirstLargeOrders(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOverMap(int warmupCount, int benchmarkCount) returns int {
+    map<Order> orders = {};
+    foreach Order o in createOrders(0, QUERY_ROW_COUNT) {
+        orders[o.id.toString()] = o;
+    }
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectLargeOrdersFromMap(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectLargeOrdersFromMap(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOverTable(int warmupCount, int benchmarkCount) returns int {
+    table<Order> key(id) orders = table [];
+    foreach Order o in createOrders(0, QUERY_ROW_COUNT) {
+        orders.add(o);
+    }
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectLargeOrdersFromTable(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectLargeOrdersFromTable(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryStream(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += streamLargeOrders(orders);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += streamLargeOrders(orders);
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOrderBy(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += orderOrdersByCustomer(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += orderOrdersByCustomer(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryOrderByLimit(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectTopOrdersByCustomer(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectTopOrdersByCustomer(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQuerySequential(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, PARALLEL_QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectLargeOrdersSequentially(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectLargeOrdersSequentially(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryParallel(int warmupCount, int benchmarkCount) returns int {
+    Order[] orders = createOrders(0, PARALLEL_QUERY_ROW_COUNT);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        count += selectLargeOrdersInParallel(orders).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        count += selectLargeOrdersInParallel(orders).length();
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,111 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// lang.array:sort() benchmarks. Each benchmark iteration sorts a copy of a list of pseudo random values, and only the
+// time taken by the sort is measured.
+
+type SortRecord record {|
+    int id;
+    string name;
+|};
+
+function createSortKeys(int size) returns int[] {
+    int[] keys = [];
+    foreach int i in 0 ..< size {
+        keys.push((i * 2654435761) % 1000003);
+    }
+    return keys;
+}
+
+function sortInts(int size, int warmupCount, int benchmarkCount) returns int {
+    int[] source = createSortKeys(size);
+    foreach int i in 0 ..< warmupCount {
+        int[] values = source.clone();
+        _ = values.sort();
+    }
+
+    int time = 0;
+    foreach int i in 0 ..< benchmarkCount {
+        int[] values = source.clone();
+        int startTime = nanoTime();
+        _ = values.sort();
+        time += nanoTime() - startTime;
+    }
+    return time;
+}
+
+public function benchmarkSortInts1K(int warmupCount, int benchmarkCount) returns int {
+    return sortInts(1000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkSortInts100K(int warmupCount, int benchmarkCount) returns int {
+    return sortInts(100000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkSortInts10M(int warmupCount, int benchmarkCount) returns int {
+    return sortInts(10000000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkSortFloats100K(int warmupCount, int benchmarkCount) returns int {
+    float[] source = createSortKeys(100000).map(key => <float> key / 7.0);
+    foreach int i in 0 ..< warmupCount {
+        float[] values = source.clone();
+        _ = values.sort("descending");
+    }
+
+    int time = 0;
+    foreach int i in 0 ..< benchmarkCount {
+        float[] values = source.clone();
+        int startTime = nanoTime();
+        _ = values.sort("descending");
+        time += nanoTime() - startTime;
+    }
+    return time;
+}
+
+public function benchmarkSortStrings100K(int warmupCount, int benchmarkCount) returns int {
+    string[] source = createSortKeys(100000).map(key => "value" + key.toString());
+    foreach int i in 0 ..< warmupCount {
+        string[] values = source.clone();
+        _ = values.sort();
+    }
+
+    int time = 0;
+    foreach int i in 0 ..< benchmarkCount {
+        string[] values = source.clone();
+        int startTime = nanoTime();
+        _ = values.sort();
+        time += nanoTime() - startTime;
+    }
+    return time;
+}
+
+public function benchmarkSortRecordsByKey100K(int warmupCount, int benchmarkCount) returns int {
+    SortRecord[] source = createSortKeys(100000).map(key => {id: key, name: "value" + key.toString()});
+    foreach int i in 0 ..< warmupCount {
+        SortRecord[] values = source.clone();
+        _ = values.sort("ascending", isolated function (SortRecord r) returns int => r.id);
+    }
+
+    int time = 0;
+    foreach int i in 0 ..< benchmarkCount {
+        SortRecord[] values = source.clone();
+        int startTime = nanoTime();
+        _ = values.sort("ascending", isolated function (SortRecord r) returns int => r.id);
+        time += nanoTime() - startTime;
+    }
+    return time;
+}
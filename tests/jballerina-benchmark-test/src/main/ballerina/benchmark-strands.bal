@@ -0,0 +1,146 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+// Strand scheduling benchmarks. Run these with the BALLERINA_SCHEDULER_MODE system variable set to `shared-queue`
+// (default) and `work-stealing` to compare the scheduler modes.
+
+# Returns the number of bytes allocated in the heap by all the live threads.
+#
+# + return - Allocated bytes
+function allocatedBytes() returns int = @java:Method {
+    name: "allocatedBytes",
+    'class: "org.ballerinalang.benchmark.nativeimpl.AllocationUtils"
+} external;
+
+# Prints the average number of bytes allocated per call to the standard error.
+#
+# + functionName - Name of the benchmark function
+# + bytes - Number of bytes allocated by all the calls
+# + count - Number of calls
+function printAllocatedBytesPerCall(string functionName, int bytes, int count) = @java:Method {
+    name: "printAllocatedBytesPerCall",
+    'class: "org.ballerinalang.benchmark.nativeimpl.AllocationUtils"
+} external;
+
+isolated function increment(int i) returns int {
+    return i + 1;
+}
+
+function startAndWait(int count) {
+    int i = 0;
+    while (i < count) {
+        future<int> f = start increment(i);
+        int result = wait f;
+        i += 1;
+    }
+}
+
+function fanOutAndWait(int count) {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        future<int> f = start increment(i);
+        futures.push(f);
+        i += 1;
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+function waitOnFuture(future<int> f) returns int {
+    return wait f;
+}
+
+function waitOnSharedFuture(int count) {
+    future<int> shared = start increment(count);
+    future<int>[] waiters = [];
+    int i = 0;
+    while (i < count) {
+        future<int> f = start waitOnFuture(shared);
+        waiters.push(f);
+        i += 1;
+    }
+    foreach future<int> f in waiters {
+        int result = wait f;
+    }
+}
+
+function sendAndReceiveBetweenWorkers(int count) {
+    worker w1 {
+        int i = 0;
+        while (i < count) {
+            i -> w2;
+            i += 1;
+        }
+    }
+
+    worker w2 {
+        int i = 0;
+        while (i < count) {
+            int value = <- w1;
+            i += 1;
+        }
+    }
+
+    wait w2;
+}
+
+public function benchmarkStrandStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    startAndWait(warmupCount);
+
+    int startTime = nanoTime();
+    startAndWait(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandAllocation(int warmupCount, int benchmarkCount) returns int {
+    startAndWait(warmupCount);
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    startAndWait(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkStrandAllocation", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
+
+public function benchmarkStrandFanOut(int warmupCount, int benchmarkCount) returns int {
+    fanOutAndWait(warmupCount);
+
+    int startTime = nanoTime();
+    fanOutAndWait(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandWaitOnSharedFuture(int warmupCount, int benchmarkCount) returns int {
+    waitOnSharedFuture(warmupCount);
+
+    int startTime = nanoTime();
+    waitOnSharedFuture(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandWorkerInteraction(int warmupCount, int benchmarkCount) returns int {
+    sendAndReceiveBetweenWorkers(warmupCount);
+
+    int startTime = nanoTime();
+    sendAndReceiveBetweenWorkers(benchmarkCount);
+    return (nanoTime() - startTime);
+}
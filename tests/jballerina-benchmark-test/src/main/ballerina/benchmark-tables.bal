@@ -0,0 +1,156 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Table benchmarks. Each benchmark runs its operations against a table which already holds `TABLE_ROW_COUNT` rows,
+// one row per operation, so that the cost of a table operation is measured at a realistic table size.
+
+const int TABLE_ROW_COUNT = 1000000;
+
+type Employee record {
+    readonly int id;
+    readonly string name;
+    float salary;
+};
+
+type EmployeeTable table<Employee> key(id);
+
+type EmployeeNameTable table<Employee> key(name);
+
+type EmployeeMultiKeyTable table<Employee> key(id, name);
+
+function createEmployeeTable(int rowCount) returns EmployeeTable {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< rowCount {
+        employees.add({id: i, name: "name" + i.toString(), salary: 1000.0});
+    }
+    return employees;
+}
+
+function addEmployees(EmployeeTable employees, int startId, int count) {
+    foreach int i in startId ..< startId + count {
+        employees.add({id: i, name: "name" + i.toString(), salary: 1000.0});
+    }
+}
+
+function getEmployees(EmployeeTable employees, int count) returns float {
+    float sum = 0;
+    foreach int i in 0 ..< count {
+        sum += employees.get((i * 7919) % TABLE_ROW_COUNT).salary;
+    }
+    return sum;
+}
+
+function getEmployeesByName(EmployeeNameTable employees, string[] names, int count) returns float {
+    float sum = 0;
+    foreach int i in 0 ..< count {
+        sum += employees.get(names[(i * 7919) % names.length()]).salary;
+    }
+    return sum;
+}
+
+function getEmployeesByMultiKey(EmployeeMultiKeyTable employees, int count) returns float {
+    float sum = 0;
+    foreach int i in 0 ..< count {
+        int id = (i * 7919) % TABLE_ROW_COUNT;
+        sum += employees.get([id, "name" + id.toString()]).salary;
+    }
+    return sum;
+}
+
+function removeEmployees(EmployeeTable employees, int startId, int count) {
+    foreach int i in startId ..< startId + count {
+        _ = employees.removeIfHasKey(i % TABLE_ROW_COUNT);
+    }
+}
+
+function iterateEmployees(EmployeeTable employees, int count) returns float {
+    float sum = 0;
+    int visited = 0;
+    while (visited < count) {
+        foreach Employee employee in employees {
+            sum += employee.salary;
+            visited += 1;
+            if (visited == count) {
+                break;
+            }
+        }
+    }
+    return sum;
+}
+
+public function benchmarkTableAdd(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = createEmployeeTable(TABLE_ROW_COUNT);
+    addEmployees(employees, TABLE_ROW_COUNT, warmupCount);
+
+    int startTime = nanoTime();
+    addEmployees(employees, TABLE_ROW_COUNT + warmupCount, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableGet(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = createEmployeeTable(TABLE_ROW_COUNT);
+    float sum = getEmployees(employees, warmupCount);
+
+    int startTime = nanoTime();
+    sum += getEmployees(employees, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableGetByStringKey(int warmupCount, int benchmarkCount) returns int {
+    EmployeeNameTable employees = table [];
+    string[] names = [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        string name = "name" + i.toString();
+        employees.add({id: i, name: name, salary: 1000.0});
+        names.push(name);
+    }
+    float sum = getEmployeesByName(employees, names, warmupCount);
+
+    int startTime = nanoTime();
+    sum += getEmployeesByName(employees, names, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableGetByMultiKey(int warmupCount, int benchmarkCount) returns int {
+    EmployeeMultiKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: 1000.0});
+    }
+    float sum = getEmployeesByMultiKey(employees, warmupCount);
+
+    int startTime = nanoTime();
+    sum += getEmployeesByMultiKey(employees, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableRemove(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = createEmployeeTable(TABLE_ROW_COUNT);
+    removeEmployees(employees, 0, warmupCount);
+    addEmployees(employees, TABLE_ROW_COUNT, warmupCount);
+
+    int startTime = nanoTime();
+    removeEmployees(employees, warmupCount, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableIterate(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable employees = createEmployeeTable(TABLE_ROW_COUNT);
+    float sum = iterateEmployees(employees, warmupCount);
+
+    int startTime = nanoTime();
+    sum += iterateEmployees(employees, benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Type check benchmarks. Each benchmark iteration checks the types of structured values 1000 times.
+
+const int TYPE_CHECK_COUNT = 1000;
+
+type LineItem record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+type Shipment [string, LineItem[]];
+
+type Payload LineItem[]|map<LineItem>|Shipment|json;
+
+public function benchmarkTypeCheckStructured(int warmupCount, int benchmarkCount) returns int {
+    LineItem item = {sku: "A-1", quantity: 2, price: 9.5};
+    any[] values = [<LineItem[]>[item], <map<LineItem>>{first: item}, <Shipment>["S-1", [item]]];
+    int matches = 0;
+    foreach int i in 0 ..< warmupCount {
+        matches += checkTypes(values);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        matches += checkTypes(values);
+    }
+    int endTime = nanoTime();
+    if (matches == 0) {
+        panic error("no values matched");
+    }
+    return endTime - startTime;
+}
+
+function checkTypes(any[] values) returns int {
+    int matches = 0;
+    foreach int i in 0 ..< TYPE_CHECK_COUNT {
+        any value = values[i % values.length()];
+        if (value is Payload) {
+            matches += 1;
+        }
+        if (value is anydata[]|map<anydata>) {
+            matches += 1;
+        }
+    }
+    return matches;
+}
@@ -95,3 +95,89 @@ public function benchmarkStringLength() {
     int i = str.length();
 }
 
+
+// Builds a string of 10000 parts by concatenating one part at a time per benchmark iteration, and reads the built
+// string once.
+public function benchmarkStringConcatInLoop(int warmupCount, int benchmarkCount) returns int {
+    int length = 0;
+    foreach int i in 0 ..< warmupCount {
+        length += buildConcatenatedString(10000).length();
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        string payload = buildConcatenatedString(10000);
+        length += payload.indexOf("part9999") ?: 0;
+    }
+    return (nanoTime() - startTime);
+}
+
+function buildConcatenatedString(int partCount) returns string {
+    string payload = "";
+    foreach int i in 0 ..< partCount {
+        payload = payload + "part" + i.toString() + ",";
+    }
+    return payload;
+}
+
+// Parses a JSON payload of 100 orders with ASCII keys and values per benchmark iteration, and prints the average
+// number of bytes allocated per payload.
+public function benchmarkJsonStringFootprint(int warmupCount, int benchmarkCount) returns int {
+    string payload = createJsonPayload(100);
+    int count = 0;
+    foreach int i in 0 ..< warmupCount {
+        json|error parsed = payload.fromJsonString();
+        count += parsed is json[] ? parsed.length() : 0;
+    }
+
+    int startBytes = allocatedBytes();
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        json|error parsed = payload.fromJsonString();
+        count += parsed is json[] ? parsed.length() : 0;
+    }
+    int totalTime = nanoTime() - startTime;
+    printAllocatedBytesPerCall("benchmarkJsonStringFootprint", allocatedBytes() - startBytes, benchmarkCount);
+    return totalTime;
+}
+
+function createJsonPayload(int orderCount) returns string {
+    json[] orders = [];
+    foreach int i in 0 ..< orderCount {
+        orders.push({
+            "orderId": "ORD-" + i.toString(),
+            "customer": {"name": "customer" + i.toString(), "email": "customer" + i.toString() + "@example.com"},
+            "status": i % 2 == 0 ? "SHIPPED" : "PENDING",
+            "currency": "USD",
+            "amount": i * 10
+        });
+    }
+    return orders.toJsonString();
+}
+
+// Reads every code point of a string of 10000 code points, of which every tenth is outside the basic multilingual
+// plane, per benchmark iteration.
+public function benchmarkNonBmpStringCodePoints(int warmupCount, int benchmarkCount) returns int {
+    string text = "";
+    foreach int i in 0 ..< 1000 {
+        text += "abcdefghi\u{1F47D}";
+    }
+    int sum = 0;
+    foreach int i in 0 ..< warmupCount {
+        sum += sumCodePoints(text);
+    }
+
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        sum += sumCodePoints(text);
+    }
+    return (nanoTime() - startTime);
+}
+
+function sumCodePoints(string text) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< text.length() {
+        sum += text.getCodePoint(i);
+    }
+    return sum;
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Worker data channel benchmarks. The async send benchmark can also be run with the BALLERINA_WORKER_CHANNEL_CAPACITY
+// system variable set, to measure the cost of sender backpressure.
+
+type ChannelRecord record {|
+    int id;
+    string name;
+|};
+
+function asyncSendRecords(int count) {
+    worker w1 {
+        int i = 0;
+        while (i < count) {
+            ChannelRecord rec = {id: i, name: "record"};
+            rec -> w2;
+            i += 1;
+        }
+    }
+
+    worker w2 {
+        int i = 0;
+        while (i < count) {
+            ChannelRecord rec = <- w1;
+            i += 1;
+        }
+    }
+
+    wait w2;
+}
+
+function syncSendPingPong(int count) {
+    worker w1 {
+        int i = 0;
+        while (i < count) {
+            var result = i ->> w2;
+            int reply = <- w2;
+            i += 1;
+        }
+    }
+
+    worker w2 {
+        int i = 0;
+        while (i < count) {
+            int value = <- w1;
+            value -> w1;
+            i += 1;
+        }
+    }
+
+    wait w2;
+}
+
+function sendAndFlush(int count) {
+    worker w1 {
+        int i = 0;
+        while (i < count) {
+            i -> w2;
+            if (i % 100 == 99) {
+                var result = flush w2;
+            }
+            i += 1;
+        }
+    }
+
+    worker w2 {
+        int i = 0;
+        while (i < count) {
+            int value = <- w1;
+            i += 1;
+        }
+    }
+
+    wait w2;
+}
+
+public function benchmarkWorkerChannelAsyncSend(int warmupCount, int benchmarkCount) returns int {
+    asyncSendRecords(warmupCount);
+
+    int startTime = nanoTime();
+    asyncSendRecords(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerChannelSyncSendLatency(int warmupCount, int benchmarkCount) returns int {
+    syncSendPingPong(warmupCount);
+
+    int startTime = nanoTime();
+    syncSendPingPong(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerChannelFlush(int warmupCount, int benchmarkCount) returns int {
+    sendAndFlush(warmupCount);
+
+    int startTime = nanoTime();
+    sendAndFlush(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -36,6 +36,52 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStrandStartAndWait", benchmarkStrandStartAndWait);
+    addSingleExecFunction("benchmarkStrandAllocation", benchmarkStrandAllocation);
+    addSingleExecFunction("benchmarkStrandFanOut", benchmarkStrandFanOut);
+    addSingleExecFunction("benchmarkStrandWaitOnSharedFuture", benchmarkStrandWaitOnSharedFuture);
+    addSingleExecFunction("benchmarkStrandWorkerInteraction", benchmarkStrandWorkerInteraction);
+    addSingleExecFunction("benchmarkAsyncCallWithManyLocks", benchmarkAsyncCallWithManyLocks);
+    addSingleExecFunction("benchmarkWorkerChannelAsyncSend", benchmarkWorkerChannelAsyncSend);
+    addSingleExecFunction("benchmarkWorkerChannelSyncSendLatency", benchmarkWorkerChannelSyncSendLatency);
+    addSingleExecFunction("benchmarkWorkerChannelFlush", benchmarkWorkerChannelFlush);
+    addSingleExecFunction("benchmarkMapPutGetIterate", benchmarkMapPutGetIterate);
+    addSingleExecFunction("benchmarkMapPutGetIterateBaseline", benchmarkMapPutGetIterateBaseline);
+    addSingleExecFunction("benchmarkMapFootprint", benchmarkMapFootprint);
+    addSingleExecFunction("benchmarkMapFootprintBaseline", benchmarkMapFootprintBaseline);
+    addSingleExecFunction("benchmarkJsonObjectFootprint", benchmarkJsonObjectFootprint);
+    addSingleExecFunction("benchmarkOpenRecordFootprint", benchmarkOpenRecordFootprint);
+    addSingleExecFunction("benchmarkTableAdd", benchmarkTableAdd);
+    addSingleExecFunction("benchmarkTableGet", benchmarkTableGet);
+    addSingleExecFunction("benchmarkTableGetByStringKey", benchmarkTableGetByStringKey);
+    addSingleExecFunction("benchmarkTableGetByMultiKey", benchmarkTableGetByMultiKey);
+    addSingleExecFunction("benchmarkTableRemove", benchmarkTableRemove);
+    addSingleExecFunction("benchmarkTableIterate", benchmarkTableIterate);
+    addSingleExecFunction("benchmarkQueryJoin", benchmarkQueryJoin);
+    addSingleExecFunction("benchmarkQueryJoinByStringKey", benchmarkQueryJoinByStringKey);
+    addSingleExecFunction("benchmarkQueryOuterJoin", benchmarkQueryOuterJoin);
+    addSingleExecFunction("benchmarkQueryWhereSelect", benchmarkQueryWhereSelect);
+    addSingleExecFunction("benchmarkQueryLetWhereLimit", benchmarkQueryLetWhereLimit);
+    addSingleExecFunction("benchmarkQueryOverMap", benchmarkQueryOverMap);
+    addSingleExecFunction("benchmarkQueryOverTable", benchmarkQueryOverTable);
+    addSingleExecFunction("benchmarkQueryStream", benchmarkQueryStream);
+    addSingleExecFunction("benchmarkQueryOrderBy", benchmarkQueryOrderBy);
+    addSingleExecFunction("benchmarkQueryOrderByLimit", benchmarkQueryOrderByLimit);
+    addSingleExecFunction("benchmarkQuerySequential", benchmarkQuerySequential);
+    addSingleExecFunction("benchmarkQueryParallel", benchmarkQueryParallel);
+    addSingleExecFunction("benchmarkSortInts1K", benchmarkSortInts1K);
+    addSingleExecFunction("benchmarkSortInts100K", benchmarkSortInts100K);
+    addSingleExecFunction("benchmarkSortInts10M", benchmarkSortInts10M);
+    addSingleExecFunction("benchmarkSortFloats100K", benchmarkSortFloats100K);
+    addSingleExecFunction("benchmarkSortStrings100K", benchmarkSortStrings100K);
+    addSingleExecFunction("benchmarkSortRecordsByKey100K", benchmarkSortRecordsByKey100K);
+    addSingleExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
+    addSingleExecFunction("benchmarkJsonStringFootprint", benchmarkJsonStringFootprint);
+    addSingleExecFunction("benchmarkNonBmpStringCodePoints", benchmarkNonBmpStringCodePoints);
+    addSingleExecFunction("benchmarkObjectFieldAccess", benchmarkObjectFieldAccess);
+    addSingleExecFunction("benchmarkRecordFieldAccess", benchmarkRecordFieldAccess);
+    addSingleExecFunction("benchmarkRecordFieldUpdate", benchmarkRecordFieldUpdate);
+    addSingleExecFunction("benchmarkTypeCheckStructured", benchmarkTypeCheckStructured);
 }
 
 public function registerMultiExecFunctions() {
@@ -1,5 +1,6 @@
 module io.ballerina.benchmark {
     requires io.ballerina.lang;
     requires io.ballerina.runtime;
+    requires jdk.management;
     exports org.ballerinalang.benchmark.nativeimpl;
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * This class holds memory allocation related utility functionality that is required for benchmarking.
+ *
+ * @since 2.0.0
+ */
+public class AllocationUtils {
+
+    private static final PrintStream err = System.err;
+
+    private AllocationUtils() {
+    }
+
+    /**
+     * Returns the total number of bytes allocated in the heap by all the live threads, including the scheduler
+     * workers.
+     *
+     * @return allocated bytes
+     */
+    public static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            // -1 is returned for threads that are no longer alive
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Prints the average number of bytes allocated per call to the standard error, so that the CSV results written
+     * to the standard output are not affected.
+     *
+     * @param functionName name of the benchmark function
+     * @param bytes        number of bytes allocated by all the calls
+     * @param count        number of calls
+     */
+    public static void printAllocatedBytesPerCall(BString functionName, long bytes, long count) {
+        err.println(functionName.getValue() + ": " + (count == 0 ? 0 : bytes / count) + " bytes allocated per call");
+    }
+}
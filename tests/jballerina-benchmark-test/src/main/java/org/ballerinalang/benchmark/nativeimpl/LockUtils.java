@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * This class holds lock related utility functionality that is required for benchmarking.
+ *
+ * @since 2.0.0
+ */
+public class LockUtils {
+
+    private static final String LOCK_STORE_FIELD = "$LOCK_STORE";
+    private static final String ADD_LOCK_METHOD = "addLockToMap";
+    private static final String LOCK_NAME_PREFIX = "benchmarkLock";
+
+    private LockUtils() {
+    }
+
+    /**
+     * Adds the given number of locks to the lock store of the calling module, to simulate a module with many
+     * `lock` statements.
+     *
+     * @param count number of locks to be added
+     */
+    public static void addLocks(long count) {
+        Class<?> caller = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+        try {
+            Class<?> initClass = Class.forName(caller.getPackageName() + "." +
+                                                       RuntimeConstants.MODULE_INIT_CLASS_NAME, true,
+                                               caller.getClassLoader());
+            Object lockStore = initClass.getField(LOCK_STORE_FIELD).get(null);
+            Method addLock = lockStore.getClass().getMethod(ADD_LOCK_METHOD, String.class);
+            for (long i = 0; i < count; i++) {
+                addLock.invoke(lockStore, LOCK_NAME_PREFIX + i);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("unable to add locks: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class runs the mapping value benchmarks on a {@link LinkedHashMap}, which was the storage used by the mapping
+ * values earlier, to be used as a baseline.
+ *
+ * @since 2.0.0
+ */
+public class MapBaselineUtils {
+
+    private MapBaselineUtils() {
+    }
+
+    /**
+     * Puts the given keys to a new map, reads them back and iterates over the map, for the given number of maps.
+     *
+     * @param keys  keys of the map
+     * @param count number of maps to be created
+     * @return sum of the values read, so that the work is not optimized away
+     */
+    public static long putGetIterate(BArray keys, long count) {
+        BString[] keyArray = toKeyArray(keys);
+        long sum = 0;
+        for (long i = 0; i < count; i++) {
+            Map<BString, Object> map = new LinkedHashMap<>();
+            for (int j = 0; j < keyArray.length; j++) {
+                map.put(keyArray[j], (long) j);
+            }
+            for (BString key : keyArray) {
+                sum += (Long) map.get(key);
+            }
+            for (Map.Entry<BString, Object> entry : map.entrySet()) {
+                sum += (Long) entry.getValue();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Creates the given number of maps with the given keys, keeping all of them reachable until the last one is
+     * created.
+     *
+     * @param keys  keys of the map
+     * @param count number of maps to be created
+     */
+    public static void createMaps(BArray keys, long count) {
+        BString[] keyArray = toKeyArray(keys);
+        List<Map<BString, Object>> maps = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            Map<BString, Object> map = new LinkedHashMap<>();
+            for (int j = 0; j < keyArray.length; j++) {
+                map.put(keyArray[j], (long) j);
+            }
+            maps.add(map);
+        }
+    }
+
+    private static BString[] toKeyArray(BArray keys) {
+        BString[] keyArray = new BString[keys.size()];
+        for (int i = 0; i < keyArray.length; i++) {
+            keyArray[i] = keys.getBString(i);
+        }
+        return keyArray;
+    }
+}
@@ -19,6 +19,7 @@ package org.ballerinalang.nativeimpl.jvm.servicetests;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.ResolvedMethod;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ObjectType;
@@ -35,6 +36,7 @@ import io.ballerina.runtime.internal.types.BAnnotatableType;
 import io.ballerina.runtime.internal.types.BServiceType;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.HandleValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 
@@ -73,6 +75,27 @@ public class ServiceValue {
         return k;
     }
 
+    public static HandleValue resolveMethod(Environment env, BObject o, BString name) {
+        return new HandleValue(env.getRuntime().resolveMethod(o, name.getValue()));
+    }
+
+    public static BFuture callResolvedMethod(Environment env, BObject o, HandleValue method, BArray arrayValue) {
+        Object[] args = new Object[arrayValue.size()];
+        for (int i = 0; i < arrayValue.size(); i++) {
+            args[i] = arrayValue.get(i);
+        }
+        return env.getRuntime().invokeMethodAsync(o, (ResolvedMethod) method.getValue(), null, null, null,
+                                                  new HashMap<>(), args);
+    }
+
+    public static long getResolvedMethodArity(HandleValue method) {
+        return ((ResolvedMethod) method.getValue()).getArity();
+    }
+
+    public static BString getResolvedMethodReturnTypeName(HandleValue method) {
+        return StringUtils.fromString(((ResolvedMethod) method.getValue()).getReturnType().getName());
+    }
+
     public static BArray getParamNames(BObject o, BString methodName) {
         ObjectType type = o.getType();
         if (!(type instanceof ServiceType)) {
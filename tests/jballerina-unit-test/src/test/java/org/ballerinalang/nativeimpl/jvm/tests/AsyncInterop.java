@@ -16,6 +16,9 @@
  */
 package org.ballerinalang.nativeimpl.jvm.tests;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 
 import java.util.concurrent.CompletableFuture;
@@ -40,6 +43,25 @@ public class AsyncInterop {
         return -1;
     }
 
+    public static void addBlocking(Environment env, long a, long b) {
+        env.runBlocking(() -> {
+            sleep();
+            return a + b;
+        });
+    }
+
+    public static void failBlocking(Environment env) {
+        env.runBlocking(() -> {
+            throw new IllegalStateException("blocking task failed");
+        });
+    }
+
+    public static void failBlockingWithError(Environment env) {
+        env.runBlocking(() -> {
+            throw ErrorCreator.createError(StringUtils.fromString("blocking task error"));
+        });
+    }
+
     private static void sleep() {
         try {
             Thread.sleep(1000);
@@ -502,6 +502,10 @@ public class StaticMethods {
                                               callerModule.getVersion() + "#" + b);
     }
 
+    public static long getStrandId(Environment env) {
+        return env.getStrandId();
+    }
+
     public static BString getCurrentModuleForObject(Environment env, ObjectValue a, long b) {
         Module callerModule = env.getCurrentModule();
         return StringUtils.fromString(callerModule.getOrg() + "#" + callerModule.getName() + "#" +
@@ -18,6 +18,7 @@
 package org.ballerinalang.nativeimpl.jvm.tests;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.ResolvedMethod;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.internal.values.ObjectValue;
 
@@ -32,11 +33,12 @@ public class Timer {
 
     public static void startTimer(Environment env, int interval, int count, ObjectValue object) {
         Runtime runtime = env.getRuntime();
+        ResolvedMethod exec = runtime.resolveMethod(object, "exec");
 
         new Thread(() -> {
             for (int i = 0; i < count; i++) {
                 sleep(interval);
-                runtime.invokeMethodAsync(object, "exec", null, null, null);
+                runtime.invokeMethodAsync(object, exec, null, null, null, null);
             }
         }).start();
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.annotations;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BAssertUtil;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Class to test the attachment points of the strand annotation.
+ *
+ * @since 2.0.0
+ */
+public class StrandAnnotationTest {
+
+    private static final String NOT_ALLOWED_ERROR =
+            "annotation 'ballerina/lang.annotations:1.0.0:strand' is not allowed on ";
+
+    private CompileResult result;
+    private CompileResult negative;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/annotations/strand_annot.bal");
+        negative = BCompileUtil.compile("test-src/annotations/strand_annot_negative.bal");
+    }
+
+    @Test
+    public void testStrandAnnotationCompiles() {
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "strandAnnotationFunctions")
+    public void testStrandAnnotation(String function) {
+        BValue[] returns = BRunUtil.invoke(result, function);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @DataProvider(name = "strandAnnotationFunctions")
+    public Object[] strandAnnotationFunctions() {
+        return new Object[]{
+                "testStrandOnLocalVar",
+                "testStrandOnModuleVar",
+                "testStrandOnWorker"
+        };
+    }
+
+    @Test
+    public void testStrandAnnotationNegative() {
+        int index = 0;
+        BAssertUtil.validateError(negative, index++, NOT_ALLOWED_ERROR + "function", 17, 1);
+        BAssertUtil.validateError(negative, index++, NOT_ALLOWED_ERROR + "type", 21, 1);
+        BAssertUtil.validateError(negative, index++, NOT_ALLOWED_ERROR + "const", 26, 1);
+        BAssertUtil.validateError(negative, index++, NOT_ALLOWED_ERROR + "parameter", 29, 14);
+        Assert.assertEquals(negative.getErrorCount(), index);
+    }
+}
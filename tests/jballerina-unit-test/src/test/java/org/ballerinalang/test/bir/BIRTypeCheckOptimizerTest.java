@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.NullBackend;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRTypeCheckOptimizer;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for removing the checks of casts and type tests of values whose types are already known.
+ *
+ * @since 2.0.0
+ */
+public class BIRTypeCheckOptimizerTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/type_check_optimizer.bal";
+
+    private CompileResult result;
+    private BIRNode.BIRPackage birPackage;
+    private CompilerContext context;
+    private SymbolTable symTable;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile(SOURCE_FILE);
+        Project project = BCompileUtil.loadProject(SOURCE_FILE);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        // The BIR is generated and optimized along with the code of the backend.
+        NullBackend.from(compilation);
+        BLangPackage bLangPackage = compilation.defaultModuleBLangPackage();
+        birPackage = bLangPackage.symbol.bir;
+        context = project.projectEnvironmentContext().getService(CompilerContext.class);
+        symTable = SymbolTable.getInstance(context);
+    }
+
+    @Test
+    public void testRepeatedCastIsNotChecked() {
+        Assert.assertEquals(countCheckedRecordCasts("castTwice"), 1);
+        BRunUtil.invoke(result, "testCastTwice");
+    }
+
+    @Test
+    public void testCastAfterReassignmentIsChecked() {
+        Assert.assertEquals(countCheckedRecordCasts("castAfterReassignment"), 2);
+        BRunUtil.invoke(result, "testCastAfterReassignment");
+    }
+
+    @Test
+    public void testCastInLoop() {
+        BRunUtil.invoke(result, "testCastInLoop");
+    }
+
+    @Test
+    public void testTypeTestOnTrueBranchIsReplaced() {
+        // bb0: %0 = value is int; branch %0 bb1 bb2
+        // bb1: %1 = value is int; goto bb3
+        // bb2: %2 = value is int; goto bb3
+        TestFunction function = new TestFunction(4);
+        function.typeTest(0, symTable.intType).branch(0, 1, 2);
+        function.typeTest(1, symTable.intType).jump(1, 3);
+        function.typeTest(2, symTable.intType).jump(2, 3);
+
+        Assert.assertEquals(optimize(function), 1);
+        assertTypeTest(function, 0);
+        assertConstantLoad(function, 1);
+        assertTypeTest(function, 2);
+    }
+
+    @Test
+    public void testTypeTestOfSupertypeIsReplaced() {
+        // bb0: %0 = value is int; branch %0 bb1 bb2
+        // bb1: %1 = value is any; goto bb2
+        TestFunction function = new TestFunction(3);
+        function.typeTest(0, symTable.intType).branch(0, 1, 2);
+        function.typeTest(1, symTable.anyType).jump(1, 2);
+
+        Assert.assertEquals(optimize(function), 1);
+        assertConstantLoad(function, 1);
+    }
+
+    @Test
+    public void testTypeTestAfterJoinIsNotReplaced() {
+        // bb0: %0 = value is int; branch %0 bb1 bb2
+        // bb1: %1 = value is int; goto bb2
+        // bb2: %2 = value is int
+        // The type is known on the path from bb1 to bb2, but not on the path from bb0 to bb2.
+        TestFunction function = new TestFunction(3);
+        function.typeTest(0, symTable.intType).branch(0, 1, 2);
+        function.typeTest(1, symTable.intType).jump(1, 2);
+        function.typeTest(2, symTable.intType);
+
+        Assert.assertEquals(optimize(function), 1);
+        assertConstantLoad(function, 1);
+        assertTypeTest(function, 2);
+    }
+
+    @Test
+    public void testTypeTestInTrapTargetIsNotReplaced() {
+        // bb0: %0 = value is int; branch %0 bb1 bb3
+        // bb1: %1 = value is int; goto bb2
+        // bb2: %2 = value is int; goto bb3
+        // bb2 is only reached from bb1 by a goto, but it is also the target of the panics trapped in bb1.
+        TestFunction function = new TestFunction(4);
+        function.typeTest(0, symTable.intType).branch(0, 1, 3);
+        function.typeTest(1, symTable.intType).jump(1, 2);
+        function.typeTest(2, symTable.intType).jump(2, 3);
+        function.trap(1, 2);
+
+        Assert.assertEquals(optimize(function), 1);
+        assertConstantLoad(function, 1);
+        assertTypeTest(function, 2);
+    }
+
+    @Test
+    public void testRemovedTypeCheckCount() {
+        // A branch to the same block on both edges does not narrow the type.
+        TestFunction sameTarget = new TestFunction(2);
+        sameTarget.typeTest(0, symTable.intType).branch(0, 1, 1);
+        sameTarget.typeTest(1, symTable.intType);
+        Assert.assertEquals(optimize(sameTarget), 0);
+        assertTypeTest(sameTarget, 1);
+
+        // The type checks removed from all the functions of a module are counted.
+        TestFunction first = new TestFunction(3);
+        first.typeTest(0, symTable.intType).branch(0, 1, 2);
+        first.typeTest(1, symTable.intType).typeTest(1, symTable.anyType);
+        TestFunction second = new TestFunction(3);
+        second.typeTest(0, symTable.stringType).branch(0, 1, 2);
+        second.typeTest(1, symTable.stringType);
+        Assert.assertEquals(optimize(first, second), 3);
+        Assert.assertEquals(createPackage().removedTypeCheckCount, 0);
+    }
+
+    @Test
+    public void testRemovedTypeCheckCountOfModule() {
+        // At least the second cast in castTwice is not checked.
+        Assert.assertTrue(birPackage.removedTypeCheckCount >= 1,
+                          "removed type checks: " + birPackage.removedTypeCheckCount);
+    }
+
+    private int optimize(TestFunction... functions) {
+        BIRNode.BIRPackage testPackage = createPackage();
+        for (TestFunction function : functions) {
+            testPackage.functions.add(function.function);
+        }
+        BIRTypeCheckOptimizer optimizer = new BIRTypeCheckOptimizer(Types.getInstance(context));
+        optimizer.optimizeNode(testPackage);
+        return testPackage.removedTypeCheckCount;
+    }
+
+    private BIRNode.BIRPackage createPackage() {
+        return new BIRNode.BIRPackage(null, new Name("testorg"), new Name("checks"), new Name("1.0.0"),
+                                      new Name("checks.bal"));
+    }
+
+    private void assertTypeTest(TestFunction function, int blockIndex) {
+        for (BIRNonTerminator instruction : function.block(blockIndex).instructions) {
+            Assert.assertTrue(instruction instanceof BIRNonTerminator.TypeTest,
+                              "type test replaced in bb" + blockIndex);
+        }
+    }
+
+    private void assertConstantLoad(TestFunction function, int blockIndex) {
+        for (BIRNonTerminator instruction : function.block(blockIndex).instructions) {
+            Assert.assertTrue(instruction instanceof BIRNonTerminator.ConstantLoad,
+                              "type test not replaced in bb" + blockIndex);
+            BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) instruction;
+            Assert.assertEquals(constantLoad.value, true);
+            Assert.assertEquals(constantLoad.type.tag, TypeTags.BOOLEAN);
+        }
+    }
+
+    private int countCheckedRecordCasts(String functionName) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(func -> func.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("function not found: " + functionName));
+
+        int count = 0;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction instanceof BIRNonTerminator.TypeCast) {
+                    BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                    if (typeCast.checkTypes && typeCast.type.tag == TypeTags.RECORD) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A function with an argument of type any, which is tested in its basic blocks. Each basic block returns unless
+     * its terminator is set, and the result of the last type test of a block is kept in a variable of the block.
+     */
+    private class TestFunction {
+
+        private final BIRFunction function;
+        private final BIRVariableDcl value;
+        private final List<BIRVariableDcl> results = new ArrayList<>();
+
+        TestFunction(int blockCount) {
+            function = new BIRFunction(null, new Name("test"), 0, null, null, 0, null, null);
+            value = new BIRVariableDcl(symTable.anyType, new Name("value"), VarScope.FUNCTION, VarKind.ARG);
+            function.localVars.add(value);
+            for (int i = 0; i < blockCount; i++) {
+                BIRBasicBlock basicBlock = new BIRBasicBlock(new Name("bb" + i));
+                basicBlock.terminator = new BIRTerminator.Return(null);
+                function.basicBlocks.add(basicBlock);
+                BIRVariableDcl result = new BIRVariableDcl(symTable.booleanType, new Name("%" + i), VarScope.FUNCTION,
+                                                           VarKind.TEMP);
+                function.localVars.add(result);
+                results.add(result);
+            }
+        }
+
+        TestFunction typeTest(int blockIndex, BType type) {
+            block(blockIndex).instructions.add(new BIRNonTerminator.TypeTest(null, type,
+                    new BIROperand(results.get(blockIndex)), new BIROperand(value)));
+            return this;
+        }
+
+        void branch(int blockIndex, int trueBlockIndex, int falseBlockIndex) {
+            block(blockIndex).terminator = new BIRTerminator.Branch(null, new BIROperand(results.get(blockIndex)),
+                    block(trueBlockIndex), block(falseBlockIndex));
+        }
+
+        void jump(int blockIndex, int targetBlockIndex) {
+            block(blockIndex).terminator = new BIRTerminator.GOTO(null, block(targetBlockIndex));
+        }
+
+        void trap(int blockIndex, int targetBlockIndex) {
+            BIRVariableDcl error = new BIRVariableDcl(symTable.errorType, new Name("error"), VarScope.FUNCTION,
+                                                      VarKind.LOCAL);
+            function.localVars.add(error);
+            function.errorTable.add(new BIRNode.BIRErrorEntry(block(blockIndex), block(blockIndex),
+                    new BIROperand(error), block(targetBlockIndex)));
+        }
+
+        BIRBasicBlock block(int blockIndex) {
+            return function.basicBlocks.get(blockIndex);
+        }
+    }
+}
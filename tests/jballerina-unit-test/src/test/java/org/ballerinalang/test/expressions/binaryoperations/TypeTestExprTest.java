@@ -725,4 +725,9 @@ public class TypeTestExprTest {
     public void testMapAsRecord() {
         BRunUtil.invoke(result, "testMapAsRecord");
     }
+
+    @Test
+    public void testRepeatedRecursiveTypeChecks() {
+        BRunUtil.invoke(result, "testRepeatedRecursiveTypeChecks");
+    }
 }
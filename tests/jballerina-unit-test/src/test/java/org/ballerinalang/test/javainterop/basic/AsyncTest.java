@@ -50,6 +50,28 @@ public class AsyncTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
     }
 
+    @Test
+    public void testRunBlocking() {
+        BValue[] returns = BRunUtil.invoke(result, "runBlockingTest");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
+    }
+
+    @Test
+    public void testRunBlockingWithException() {
+        BValue[] returns = BRunUtil.invoke(result, "runBlockingWithExceptionTest");
+
+        Assert.assertEquals(returns[0].stringValue(), "blocking task failed");
+    }
+
+    @Test
+    public void testRunBlockingWithError() {
+        BValue[] returns = BRunUtil.invoke(result, "runBlockingWithErrorTest");
+
+        Assert.assertEquals(returns[0].stringValue(), "blocking task error");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
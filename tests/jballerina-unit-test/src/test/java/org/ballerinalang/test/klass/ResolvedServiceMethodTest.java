@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.klass;
+
+import io.ballerina.runtime.api.ResolvedMethod;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for invoking the methods of service objects through a {@link ResolvedMethod}.
+ *
+ * @since 2.0.0
+ */
+public class ResolvedServiceMethodTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/klass/resolved_service_method.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0,
+                            Arrays.asList(compileResult.getDiagnostics()).toString());
+    }
+
+    @Test(dataProvider = "resolvedMethodFunctions")
+    public void testResolvedMethod(String funcName) {
+        BRunUtil.invoke(compileResult, funcName);
+    }
+
+    @DataProvider(name = "resolvedMethodFunctions")
+    public Object[][] resolvedMethodFunctions() {
+        return new Object[][]{
+                {"testResolvedRemoteMethod"},
+                {"testResolvedResourceMethod"},
+                {"testResolvedMethodWithDefaultableParams"},
+                {"testResolvedMethodOnObjectOfAnotherClass"},
+                {"testResolvedMethodWithDifferentArgCount"},
+                {"testUnresolvedMethod"}
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
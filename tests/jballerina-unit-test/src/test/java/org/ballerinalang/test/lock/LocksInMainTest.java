@@ -299,6 +299,11 @@ public class LocksInMainTest {
         BRunUtil.invoke(parallelCompileResult, "testForGlobalRefUpdateInsideConditional");
     }
 
+    @Test(description = "Test for read only locks running concurrently with a writer")
+    public void testReadOnlyLocksWithConcurrentWriter() {
+        BRunUtil.invoke(parallelCompileResult, "testReadOnlyLocksWithConcurrentWriter");
+    }
+
     @AfterClass
     public void tearDown() {
         parallelCompileResult = null;
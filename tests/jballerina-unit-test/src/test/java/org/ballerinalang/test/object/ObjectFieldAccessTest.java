@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.object;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for accessing the fields of objects and records, which are accessed directly in the value class of their
+ * static type where possible.
+ *
+ * @since 2.0.0
+ */
+public class ObjectFieldAccessTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/object/object_field_access.bal");
+    }
+
+    @Test(dataProvider = "fieldAccessFunctions")
+    public void testFieldAccess(String function) {
+        BRunUtil.invoke(result, function);
+    }
+
+    @DataProvider(name = "fieldAccessFunctions")
+    public Object[][] fieldAccessFunctions() {
+        return new Object[][]{
+                {"testObjectFieldAccess"},
+                {"testObjectFieldAccessOfStructurallyEquivalentClass"},
+                {"testRecordFieldAccess"},
+                {"testRecordFieldUpdate"},
+                {"testRecordStringAndDecimalFieldUpdate"}
+        };
+    }
+}
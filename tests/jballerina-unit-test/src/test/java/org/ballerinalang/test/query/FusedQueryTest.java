@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test list producing query expressions which are desugared into a single loop.
+ *
+ * @since 2.0.0
+ */
+public class FusedQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/fused-query.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test a fused query with interleaved let and where clauses")
+    public void testWhereLetAndSelect() {
+        BRunUtil.invoke(result, "testWhereLetAndSelect");
+    }
+
+    @Test(description = "Test a fused query which selects records")
+    public void testSelectRecords() {
+        BRunUtil.invoke(result, "testSelectRecords");
+    }
+
+    @Test(description = "Test fused queries over a map and over a table")
+    public void testQueryOverMapAndTable() {
+        BRunUtil.invoke(result, "testQueryOverMapAndTable");
+    }
+
+    @Test(description = "Test a fused query with a limit clause")
+    public void testLimit() {
+        BRunUtil.invoke(result, "testLimit");
+    }
+
+    @Test(description = "Test that a fused query stops iterating once the limit is reached")
+    public void testLimitStopsIteration() {
+        BRunUtil.invoke(result, "testLimitStopsIteration");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -115,6 +115,18 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause matching int, float and decimal keys by their values")
+    public void testJoinClauseWithNumericKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithNumericKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause and outer join clause with nil keys")
+    public void testJoinClauseWithNilKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithNilKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -239,6 +239,24 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test order by with a limit when some frames have equal keys")
+    public void testOrderByWithLimitAndTies() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testOrderByWithLimitAndTies");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test order by with a limit when some frames have nil keys")
+    public void testOrderByWithLimitAndNilKeys() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testOrderByWithLimitAndNilKeys");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test order by with a limit which is not less than the number of frames")
+    public void testOrderByWithLimitNotLessThanSize() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testOrderByWithLimitNotLessThanSize");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test that the query expressions which are evaluated in parallel chunks give the same
+ * results as the sequential evaluation.
+ *
+ * @since 2.0.0
+ */
+public class ParallelQueryTest {
+
+    // The number of rows of the queries in parallel-query.bal, and the minimum number of rows per chunk.
+    private static final int ROW_COUNT = 10000;
+    private static final int MIN_ROWS_PER_CHUNK = 1024;
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test a parallel query over a list against the sequential query")
+    public void testParallelQueryOverList() {
+        BRunUtil.invoke(result, "testParallelQueryOverList");
+    }
+
+    @Test(description = "Test a parallel query over a table against the sequential query")
+    public void testParallelQueryOverTable() {
+        BRunUtil.invoke(result, "testParallelQueryOverTable");
+    }
+
+    @Test(description = "Test that a parallel query is split into a chunk per processor, evaluated in order")
+    public void testParallelQueryChunks() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        if (processors < 2) {
+            throw new SkipException("A parallel query is not split into chunks on a single processor");
+        }
+        BValue[] returns = BRunUtil.invoke(result, "testParallelQueryChunks");
+        int expectedChunkCount = Math.min(processors, ROW_COUNT / MIN_ROWS_PER_CHUNK);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedChunkCount);
+    }
+
+    @Test(description = "Test that the error of a parallel query is the same as the error of the sequential query")
+    public void testParallelQueryError() {
+        BRunUtil.invoke(result, "testParallelQueryError");
+    }
+
+    @Test(description = "Test that a query with side effects is evaluated sequentially")
+    public void testQueryWithSideEffects() {
+        BRunUtil.invoke(result, "testQueryWithSideEffects");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const ANY = "any";
+
+@strand {thread: "any"}
+int[] moduleSquares = from var i in [1, 2, 3] select i * i;
+
+function testStrandOnLocalVar() returns boolean {
+    int[] values = [1, 2, 3, 4];
+
+    @strand {thread: "any"}
+    int[] squares = from var i in values select i * i;
+
+    @strand {thread: ANY}
+    int[] cubes = from var i in values select i * i * i;
+
+    @strand {thread: ("any")}
+    int[] negated = from var i in values select -i;
+
+    @strand {thread: "parent"}
+    int[] doubled = from var i in values select i * 2;
+
+    @strand {thread: "any"}
+    int total = values.length();
+
+    return squares == [1, 4, 9, 16] && cubes == [1, 8, 27, 64] && negated == [-1, -2, -3, -4] &&
+        doubled == [2, 4, 6, 8] && total == 4;
+}
+
+function testStrandOnModuleVar() returns boolean {
+    return moduleSquares == [1, 4, 9];
+}
+
+function testStrandOnWorker() returns boolean {
+    @strand {thread: "any"}
+    worker w1 returns int {
+        return 42;
+    }
+
+    future<int> f = @strand {thread: ANY} start square(4);
+    int r1 = wait w1;
+    int r2 = wait f;
+    return r1 == 42 && r2 == 16;
+}
+
+isolated function square(int i) returns int {
+    return i * i;
+}
@@ -0,0 +1,78 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+function castTwice(any value) returns [Person, Person] {
+    Person first = <Person> value;
+    Person second = <Person> value;
+    return [first, second];
+}
+
+function castAfterReassignment(any first, any second) returns Person|error {
+    any value = first;
+    Person person = <Person> value;
+    value = second;
+    return trap <Person> value;
+}
+
+function castInLoop(any[] values) returns int {
+    int count = 0;
+    any value = ();
+    foreach any member in values {
+        if value is map<anydata> {
+            map<anydata> m = <map<anydata>> value;
+            count += m.length();
+        }
+        value = member;
+    }
+    return count;
+}
+
+public function testCastTwice() {
+    Person person = {name: "Anne", age: 30};
+    [Person, Person] [first, second] = castTwice(person);
+    assertEquality(true, first === person);
+    assertEquality(true, second === person);
+
+    [Person, Person]|error result = trap castTwice("Anne");
+    assertEquality(true, result is error);
+}
+
+public function testCastAfterReassignment() {
+    Person person = {name: "Anne", age: 30};
+    Person|error result = castAfterReassignment(person, person);
+    assertEquality(true, result === person);
+
+    result = castAfterReassignment(person, 30);
+    assertEquality(true, result is error);
+}
+
+public function testCastInLoop() {
+    map<anydata> m = {a: 1, b: 2};
+    assertEquality(3, castInLoop([m, 1, {c: 3}, "d"]));
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
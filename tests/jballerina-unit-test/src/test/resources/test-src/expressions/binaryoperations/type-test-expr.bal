@@ -1052,6 +1052,26 @@ public function testMapAsRecord() {
     assertTrue(det is record {| string message; |});
 }
 
+type IntTree int|IntTree[]|map<IntTree>;
+
+public function testRepeatedRecursiveTypeChecks() {
+    any[] values = [<int[]>[1, 2], <int[][]>[[1], [2, 3]], <map<int[]>>{a: [1]}, <string[]>["a"], <float[][]>[[1.5]]];
+    boolean[] expected = [true, true, true, false, false];
+
+    foreach int i in 0 ..< 3 {
+        foreach int j in 0 ..< values.length() {
+            any value = values[j];
+            assertEquality(expected[j], value is IntTree);
+            assertEquality(expected[j], value is IntTree[]|map<IntTree>);
+        }
+    }
+
+    any list = <IntTree[]>[1, [2, [3]]];
+    assertTrue(list is IntTree);
+    assertFalse(list is int[]);
+    assertTrue(list is anydata[]);
+}
+
 // ========================== XML ==========================
 
 public function testXMLNeverType() {
@@ -4,7 +4,39 @@ function asyncTest() returns int {
     return countSlowly();
 }
 
+function runBlockingTest() returns int {
+    return addBlocking(20, 22);
+}
+
+function runBlockingWithExceptionTest() returns string {
+    error? result = trap failBlocking();
+    if (result is error) {
+        return result.message();
+    }
+    return "no error";
+}
+
+function runBlockingWithErrorTest() returns string {
+    error? result = trap failBlockingWithError();
+    if (result is error) {
+        return result.message();
+    }
+    return "no error";
+}
+
 // Interop functions
 public function countSlowly() returns int = @java:Method {
     'class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
 } external;
+
+public function addBlocking(int a, int b) returns int = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
+} external;
+
+public function failBlocking() = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
+} external;
+
+public function failBlockingWithError() = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
+} external;
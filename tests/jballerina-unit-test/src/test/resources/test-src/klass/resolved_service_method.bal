@@ -0,0 +1,132 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+service class Greeter {
+    string greeting = "Hello";
+
+    remote function greet(string name) returns string {
+        return self.greeting + ", " + name;
+    }
+
+    resource function get greeting/[string name]() returns string {
+        return self.greeting + " " + name;
+    }
+
+    resource function get sum(int a, int b = 10, string suffix = "!") returns string {
+        return (a + b).toString() + suffix;
+    }
+}
+
+service class Welcomer {
+    remote function greet(string name) returns string {
+        return "Welcome, " + name;
+    }
+}
+
+service class Silent {
+}
+
+function testResolvedRemoteMethod() {
+    Greeter greeter = new;
+    handle greet = resolveMethod(greeter, "greet");
+    // Each argument is followed by a flag, which is true if the argument is provided.
+    assertEquality(2, getArity(greet));
+    assertEquality("string", getReturnTypeName(greet));
+    assertEquality("Hello, Alice", wait callResolvedMethod(greeter, greet, ["Alice", true]));
+    assertEquality("Hello, Bob", wait callResolvedMethod(greeter, greet, ["Bob", true]));
+}
+
+function testResolvedResourceMethod() {
+    Greeter greeter = new;
+    handle greeting = resolveMethod(greeter, "$get$greeting$*");
+    assertEquality(2, getArity(greeting));
+    assertEquality("string", getReturnTypeName(greeting));
+    assertEquality("Hello Carol", wait callResolvedMethod(greeter, greeting, ["Carol", true]));
+}
+
+function testResolvedMethodWithDefaultableParams() {
+    Greeter greeter = new;
+    handle sum = resolveMethod(greeter, "$get$sum");
+    assertEquality(6, getArity(sum));
+    assertEquality("string", getReturnTypeName(sum));
+    assertEquality("15!", wait callResolvedMethod(greeter, sum, [5, true, 0, false, "", false]));
+    assertEquality("6?", wait callResolvedMethod(greeter, sum, [5, true, 1, true, "?", true]));
+}
+
+function testResolvedMethodOnObjectOfAnotherClass() {
+    Greeter greeter = new;
+    Welcomer welcomer = new;
+    handle greet = resolveMethod(greeter, "greet");
+    // The method is dispatched by its name to the method of the other class.
+    assertEquality("Welcome, Dave", wait callResolvedMethod(welcomer, greet, ["Dave", true]));
+    assertEquality("Hello, Dave", wait callResolvedMethod(greeter, greet, ["Dave", true]));
+}
+
+function testResolvedMethodWithDifferentArgCount() {
+    Greeter greeter = new;
+    handle greet = resolveMethod(greeter, "greet");
+    assertEquality("Hello, Eve", wait callResolvedMethod(greeter, greet, ["Eve", true, "extra", true]));
+}
+
+function testUnresolvedMethod() {
+    Silent silent = new;
+    Greeter greeter = new;
+    handle greet = resolveMethod(silent, "greet");
+    assertEquality(-1, getArity(greet));
+    assertEquality("()", getReturnTypeName(greet));
+    // The method is dispatched by its name, since it was not found when it was resolved.
+    assertEquality("Hello, Frank", wait callResolvedMethod(greeter, greet, ["Frank", true]));
+}
+
+function resolveMethod(service object {} s, string name) returns handle = @java:Method {
+    'class: "org/ballerinalang/nativeimpl/jvm/servicetests/ServiceValue",
+    name: "resolveMethod"
+} external;
+
+function callResolvedMethod(service object {} s, handle method, (any|error)[] args) returns future<any|error> =
+@java:Method {
+    'class: "org/ballerinalang/nativeimpl/jvm/servicetests/ServiceValue",
+    name: "callResolvedMethod"
+} external;
+
+function getArity(handle method) returns int = @java:Method {
+    'class: "org/ballerinalang/nativeimpl/jvm/servicetests/ServiceValue",
+    name: "getResolvedMethodArity"
+} external;
+
+function getReturnTypeName(handle method) returns string = @java:Method {
+    'class: "org/ballerinalang/nativeimpl/jvm/servicetests/ServiceValue",
+    name: "getResolvedMethodReturnTypeName"
+} external;
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -330,6 +330,54 @@ function testForGlobalRefUpdateInsideConditional() {
     }
 }
 
+int readOnlyLockX = 0;
+int readOnlyLockY = 0;
+function testReadOnlyLocksWithConcurrentWriter() {
+    @strand {thread: "any"}
+    worker w1 {
+        foreach var i in 1 ... 200 {
+            lock {
+                readOnlyLockX = i;
+                sleep(1);
+                readOnlyLockY = i;
+            }
+        }
+    }
+
+    @strand {thread: "any"}
+    worker w2 returns boolean {
+        boolean consistent = true;
+        foreach var i in 1 ... 200 {
+            lock {
+                if (readOnlyLockX != readOnlyLockY) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    @strand {thread: "any"}
+    worker w3 returns boolean {
+        boolean consistent = true;
+        foreach var i in 1 ... 200 {
+            lock {
+                if (readOnlyLockX != readOnlyLockY) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    wait w1;
+    boolean w2Consistent = wait w2;
+    boolean w3Consistent = wait w3;
+    if (!w2Consistent || !w3Consistent || readOnlyLockX != 200 || readOnlyLockY != 200) {
+        panic error("Inconsistent values read inside read only lock in \"testReadOnlyLocksWithConcurrentWriter\"");
+    }
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Sleep"
 } external;
@@ -0,0 +1,182 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+class Counter {
+    int count = 0;
+    float total = 0.0;
+    string 'type;
+    final decimal 'limit;
+
+    function init(string 'type, decimal 'limit) {
+        self.'type = 'type;
+        self.'limit = 'limit;
+    }
+}
+
+class OtherCounter {
+    int count = 100;
+    float total = 100.0;
+    string 'type = "other";
+    final decimal 'limit = 100;
+}
+
+function testObjectFieldAccess() {
+    Counter counter = new ("default", 10);
+    foreach int i in 1 ... 10 {
+        counter.count = counter.count + i;
+        counter.total += <float> i;
+    }
+    counter.'type = counter.'type + "-updated";
+    assertEquality(55, counter.count);
+    assertEquality(55.0, counter.total);
+    assertEquality("default-updated", counter.'type);
+    assertEquality(10d, counter.'limit);
+}
+
+function testObjectFieldAccessOfStructurallyEquivalentClass() {
+    Counter counter = new OtherCounter();
+    counter.count = counter.count + 1;
+    counter.total = counter.total + 1;
+    counter.'type = "updated";
+    assertEquality(101, counter.count);
+    assertEquality(101.0, counter.total);
+    assertEquality("updated", counter.'type);
+    assertEquality(100d, counter.'limit);
+    assertTrue(counter is OtherCounter);
+}
+
+type Point record {|
+    int x;
+    int y;
+    string? label = ();
+|};
+
+type LabeledPoint record {|
+    int x;
+    int y;
+    string label;
+|};
+
+type OpenPoint record {
+    int x;
+    int y;
+};
+
+function testRecordFieldAccess() {
+    Point point = {x: 1, y: 2, label: "a"};
+    assertEquality(3, point.x + point.y);
+    assertEquality("a", point.label);
+
+    Point otherPoint = <LabeledPoint> {x: 3, y: 4, label: "b"};
+    assertEquality(7, otherPoint.x + otherPoint.y);
+    assertEquality("b", otherPoint.label);
+
+    OpenPoint openPoint = {x: 5, y: 6, "z": 7};
+    assertEquality(11, openPoint.x + openPoint.y);
+    assertEquality(7, openPoint["z"]);
+
+    map<anydata> parsed = {x: 8, y: 9};
+    OpenPoint convertedPoint = checkpanic parsed.cloneWithType(OpenPoint);
+    assertEquality(17, convertedPoint.x + convertedPoint.y);
+}
+
+type Metric record {
+    int count;
+    float total;
+    boolean active;
+    string name;
+    decimal price?;
+    byte flags = 0;
+};
+
+function testRecordFieldUpdate() {
+    Metric metric = {count: 0, total: 0, active: false, name: "requests"};
+    foreach int i in 1 ... 10 {
+        metric.count = metric.count + i;
+        metric.total = metric.total + 0.5;
+    }
+    metric.active = true;
+    metric.name = metric.name + "-total";
+    metric.price = 1.5;
+    metric.flags = 7;
+    assertEquality(55, metric.count);
+    assertEquality(5.0, metric.total);
+    assertTrue(metric.active);
+    assertEquality("requests-total", metric.name);
+    assertEquality(1.5d, metric.price);
+    assertEquality(7, metric.flags);
+    assertTrue(metric.hasKey("price"));
+
+    Metric immutableMetric = metric.cloneReadOnly();
+    error? updateError = trap updateCount(immutableMetric);
+    assertTrue(updateError is error);
+    assertEquality(55, immutableMetric.count);
+}
+
+function updateCount(Metric metric) {
+    metric.count = 0;
+}
+
+function testRecordStringAndDecimalFieldUpdate() {
+    Metric metric = {count: 0, total: 0, active: false, name: ""};
+    assertTrue(!metric.hasKey("price"));
+    foreach int i in 1 ... 4 {
+        metric.name = metric.name + "\u{1F37A}";
+        decimal price = metric.price ?: 0d;
+        metric.price = price + 0.1d;
+    }
+    assertEquality(4, metric.name.length());
+    assertEquality("\u{1F37A}", metric.name.substring(3));
+    assertEquality(0.4d, metric.price);
+    assertTrue(metric.hasKey("price"));
+
+    string:Char letter = "x";
+    metric.name = letter;
+    assertEquality("x", metric.name);
+
+    Metric immutableMetric = metric.cloneReadOnly();
+    error? updateError = trap updateNameAndPrice(immutableMetric);
+    assertTrue(updateError is error);
+    assertEquality("x", immutableMetric.name);
+    assertEquality(0.4d, immutableMetric.price);
+}
+
+function updateNameAndPrice(Metric metric) {
+    metric.name = "updated";
+    metric.price = 0d;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertTrue(any|error actual) {
+    assertEquality(true, actual);
+}
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The queries in this file produce lists from a single list, map or table using only let, where, limit and select
+// clauses, hence they are desugared into a single loop instead of a pipeline.
+
+type Person record {|
+    readonly int id;
+    string name;
+    int age;
+|};
+
+type PersonTable table<Person> key(id);
+
+type PersonSummary record {|
+    string name;
+    boolean adult;
+|};
+
+int visitCount = 0;
+
+function visit(int n) returns int {
+    visitCount += 1;
+    return n;
+}
+
+function getPeople() returns Person[] {
+    return [
+        {id: 1, name: "Alex", age: 34},
+        {id: 2, name: "Ranjan", age: 12},
+        {id: 3, name: "Anne", age: 21},
+        {id: 4, name: "John", age: 17},
+        {id: 5, name: "Maria", age: 45}
+    ];
+}
+
+function testWhereLetAndSelect() {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] result = from var n in numbers
+        let int square = n * n
+        where square > 10
+        let int doubled = square * 2
+        where doubled % 4 == 0
+        select doubled + n;
+    assertEquality([36, 78, 136, 210], result);
+
+    int threshold = 5;
+    string[] labels = from int n in numbers
+        where n > threshold && n != 8
+        select n % 2 == 0 ? "even " + n.toString() : "odd " + n.toString();
+    assertEquality(["even 6", "odd 7", "odd 9", "even 10"], labels);
+
+    int[] none = from var n in numbers where n > 10 select n;
+    assertEquality(0, none.length());
+
+    int[] empty = [];
+    int[] fromEmpty = from var n in empty let int m = n * 2 select m;
+    assertEquality(0, fromEmpty.length());
+}
+
+function testSelectRecords() {
+    Person[] people = getPeople();
+    PersonSummary[] summaries = from var person in people
+        let boolean adult = person.age >= 18
+        where person.name.startsWith("A") || !adult
+        select {name: person.name, adult: adult};
+    assertEquality(<PersonSummary[]>[
+        {name: "Alex", adult: true},
+        {name: "Ranjan", adult: false},
+        {name: "Anne", adult: true},
+        {name: "John", adult: false}
+    ], summaries);
+}
+
+function testQueryOverMapAndTable() {
+    map<int> ages = {alex: 34, ranjan: 12, anne: 21};
+    int[] adultAges = from var age in ages where age >= 18 select age;
+    assertEquality([34, 21], adultAges);
+
+    PersonTable personTable = table key(id) from var person in getPeople() select person;
+    // The where clause compares two fields of the row, so the rows cannot be looked up in an index.
+    string[] names = from var person in personTable
+        where person.age > person.id * 5
+        select person.name;
+    assertEquality(["Alex", "Ranjan", "Anne", "Maria"], names);
+}
+
+function testLimit() {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] result = from var n in numbers where n % 2 == 1 limit 3 select n;
+    assertEquality([1, 3, 5], result);
+
+    int lmt = 20;
+    result = from var n in numbers limit lmt select n * 10;
+    assertEquality([10, 20, 30, 40, 50, 60, 70, 80, 90, 100], result);
+
+    int[]|error invalid = trap from var n in numbers limit 0 select n;
+    assertEquality(true, invalid is error);
+    if (invalid is error) {
+        assertEquality("Invalid limit", invalid.message());
+    }
+}
+
+function testLimitStopsIteration() {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    visitCount = 0;
+    int[] result = from var n in numbers
+        let int v = visit(n)
+        where v != 2
+        limit 2
+        select v;
+    assertEquality([1, 3], result);
+    // The rows after the one which reaches the limit are not evaluated.
+    assertEquality(4, visitCount);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
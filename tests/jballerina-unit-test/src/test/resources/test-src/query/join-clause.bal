@@ -455,3 +455,44 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type NumericKey record {|
+    string name;
+    int|float|decimal? key;
+|};
+
+function testJoinClauseWithNumericKeys() returns boolean {
+    NumericKey[] lhsList = [{name: "a", key: 1}, {name: "b", key: 2.0f}, {name: "c", key: 1.0d},
+                            {name: "d", key: 'float:NaN}, {name: "e", key: 1.00d}, {name: "f", key: 1.0f}];
+    NumericKey[] rhsList = [{name: "u", key: 1}, {name: "v", key: 2}, {name: "w", key: 1.00d},
+                            {name: "x", key: 'float:NaN}, {name: "y", key: 1.0f}];
+
+    // The keys are matched using `==`: an int never matches a float, decimals which differ only in trailing zeros
+    // match, and NaN matches NaN.
+    string[] joined =
+       from var lhs in lhsList
+       join var rhs in rhsList
+       on lhs.key equals rhs.key
+       select lhs.name + rhs.name;
+
+    return joined == ["au", "cw", "dx", "ew", "fy"];
+}
+
+function testJoinClauseWithNilKeys() returns boolean {
+    NumericKey[] lhsList = [{name: "a", key: ()}, {name: "b", key: 1}, {name: "c", key: 2}];
+    NumericKey[] rhsList = [{name: "x", key: 1}, {name: "y", key: ()}, {name: "z", key: ()}];
+
+    string[] joined =
+       from var lhs in lhsList
+       join var rhs in rhsList
+       on lhs.key equals rhs.key
+       select lhs.name + rhs.name;
+
+    string?[] outerJoined =
+       from var lhs in lhsList
+       outer join var rhs in rhsList
+       on lhs.key equals rhs.key
+       select rhs.name;
+
+    return joined == ["ay", "az", "bx"] && outerJoined == ["y", "z", "x", ()];
+}
@@ -502,3 +502,60 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+type Score record {|
+    string name;
+    int? score;
+    string dept = "A";
+|};
+
+function getScores() returns Score[] {
+    return [
+        {name: "a", score: 5},
+        {name: "b", score: 7, dept: "B"},
+        {name: "c", score: 7},
+        {name: "d", score: 5, dept: "B"},
+        {name: "e", score: 9},
+        {name: "f", score: 7, dept: "B"}
+    ];
+}
+
+function testOrderByWithLimitAndTies() returns boolean {
+    Score[] scores = getScores();
+
+    // Frames with equal keys are kept in the order they were added.
+    string[] descending = from var s in scores order by s.score descending limit 3 select s.name;
+    string[] ascending = from var s in scores order by s.score ascending limit 3 select s.name;
+    final int k = 4;
+    string[] multipleKeys = from var s in scores order by s.dept descending, s.score descending limit k select s.name;
+
+    return descending == ["e", "b", "c"] && ascending == ["a", "d", "b"] && multipleKeys == ["b", "f", "d", "e"];
+}
+
+function testOrderByWithLimitAndNilKeys() returns boolean {
+    Score[] scores = [
+        {name: "x", score: ()},
+        {name: "y", score: 3},
+        {name: "z", score: ()},
+        {name: "w", score: 1}
+    ];
+
+    // () is placed last irrespective of the direction.
+    string[] ascending = from var s in scores order by s.score ascending limit 3 select s.name;
+    string[] descending = from var s in scores order by s.score descending limit 3 select s.name;
+    string[] all = from var s in scores order by s.score descending limit 4 select s.name;
+
+    return ascending == ["w", "y", "x"] && descending == ["y", "w", "x"] && all == ["y", "w", "x", "z"];
+}
+
+function testOrderByWithLimitNotLessThanSize() returns boolean {
+    Score[] scores = getScores();
+
+    string[] limitEqualToSize = from var s in scores order by s.score ascending limit 6 select s.name;
+    string[] limitGreaterThanSize = from var s in scores order by s.score descending limit 100 select s.name;
+    Score[] empty = [];
+    string[] fromEmpty = from var s in empty order by s.score ascending limit 2 select s.name;
+
+    return limitEqualToSize == ["a", "d", "b", "c", "f", "e"] &&
+        limitGreaterThanSize == ["e", "b", "c", "f", "a", "d"] && fromEmpty.length() == 0;
+}
@@ -0,0 +1,208 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+type Row record {|
+    readonly int id;
+    string name;
+|};
+
+type RowTable table<Row> key(id);
+
+// Enough rows for the query to be split into more than one chunk.
+const int ROW_COUNT = 10000;
+
+const ANY = "any";
+
+int visitCount = 0;
+
+function createValues() returns int[] {
+    int[] values = [];
+    foreach int i in 0 ..< ROW_COUNT {
+        values.push(i);
+    }
+    return values;
+}
+
+function createRows() returns RowTable {
+    RowTable rows = table [];
+    foreach int i in 0 ..< ROW_COUNT {
+        rows.add({id: i, name: "row" + (i % 100).toString()});
+    }
+    return rows;
+}
+
+function testParallelQueryOverList() {
+    int[] values = createValues();
+    int factor = 3;
+
+    int[] expected = from var i in values
+        let int j = i * factor
+        where j % 2 == 0
+        select j + 1;
+    @strand {thread: "any"}
+    int[] actual = from var i in values
+        let int j = i * factor
+        where j % 2 == 0
+        select j + 1;
+    assertEquality(ROW_COUNT / 2, actual.length());
+    assertEquality(expected, actual);
+
+    @strand {thread: ANY}
+    int[] squares = from var i in values select square(i);
+    assertEquality(ROW_COUNT, squares.length());
+    foreach int i in 0 ..< ROW_COUNT {
+        assertEquality(i * i, squares[i]);
+    }
+}
+
+function testParallelQueryOverTable() {
+    RowTable rows = createRows();
+
+    string[] expected = from var r in rows where r.id % 3 == 0 select r.name + ":" + r.id.toString();
+    @strand {thread: "any"}
+    string[] actual = from var r in rows where r.id % 3 == 0 select r.name + ":" + r.id.toString();
+    assertEquality(expected, actual);
+    assertEquality("row0:0", actual[0]);
+    assertEquality("row99:9999", actual[actual.length() - 1]);
+
+    @strand {thread: "any"}
+    Row[] selected = from var r in rows where r.name == "row7" select r;
+    assertEquality(ROW_COUNT / 100, selected.length());
+    foreach int i in 0 ..< selected.length() {
+        assertEquality(i * 100 + 7, selected[i].id);
+    }
+}
+
+// Returns the number of chunks the rows were split into, counting the runs of rows evaluated by the same strand.
+function testParallelQueryChunks() returns int {
+    int[] values = createValues();
+    int callerStrandId = getStrandId();
+    @strand {thread: "any"}
+    int[][] evaluated = from var i in values select [i, getStrandId()];
+    assertEquality(ROW_COUNT, evaluated.length());
+
+    int chunkCount = 0;
+    int? chunkStrandId = ();
+    foreach int i in 0 ..< evaluated.length() {
+        // The values are in the order of the sequential query.
+        assertEquality(i, evaluated[i][0]);
+        int strandId = evaluated[i][1];
+        if (strandId != chunkStrandId) {
+            chunkCount += 1;
+            chunkStrandId = strandId;
+        }
+    }
+    if (chunkCount == 1) {
+        // A single chunk is evaluated by the calling strand.
+        assertEquality(callerStrandId, chunkStrandId);
+    } else {
+        foreach var row in evaluated {
+            assertEquality(true, row[1] != callerStrandId);
+        }
+    }
+    return chunkCount;
+}
+
+function testParallelQueryError() {
+    int[] values = createValues();
+    int[]|error expected = trap divideSequential(values);
+    int[]|error actual = trap divideParallel(values);
+    assertError(expected, actual, "{ballerina}DivisionByZero");
+
+    expected = trap validateSequential(values);
+    actual = trap validateParallel(values);
+    // The error of the first failing row is propagated, as in the sequential evaluation.
+    assertError(expected, actual, "Invalid row 3000");
+}
+
+function testQueryWithSideEffects() {
+    int[] values = createValues();
+    visitCount = 0;
+    @strand {thread: "any"}
+    int[] actual = from var i in values select visit(i);
+    assertEquality(ROW_COUNT, visitCount);
+    assertEquality(values, actual);
+}
+
+function divideSequential(int[] values) returns int[] {
+    return from var i in values select 100 / (i - 7000);
+}
+
+function divideParallel(int[] values) returns int[] {
+    @strand {thread: "any"}
+    int[] result = from var i in values select 100 / (i - 7000);
+    return result;
+}
+
+function validateSequential(int[] values) returns int[] {
+    return from var i in values select validate(i);
+}
+
+function validateParallel(int[] values) returns int[] {
+    @strand {thread: "any"}
+    int[] result = from var i in values select validate(i);
+    return result;
+}
+
+isolated function getStrandId() returns int = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.StaticMethods"
+} external;
+
+isolated function square(int i) returns int {
+    return i * i;
+}
+
+isolated function validate(int i) returns int {
+    if (i == 3000 || i == 9000) {
+        panic error("Invalid row " + i.toString());
+    }
+    return i;
+}
+
+function visit(int i) returns int {
+    visitCount += 1;
+    return i;
+}
+
+function assertError(int[]|error expected, int[]|error actual, string expectedMessage) {
+    if (expected is error && actual is error) {
+        assertEquality(expectedMessage, expected.message());
+        assertEquality(expected.message(), actual.message());
+        assertEquality(expected.detail().toString(), actual.detail().toString());
+        return;
+    }
+    assertEquality(expected, actual);
+    panic error(ASSERTION_ERROR_REASON, message = "expected '" + expectedMessage + "' errors");
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -0,0 +1,253 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    readonly string name;
+    readonly int dept;
+    readonly decimal salary;
+    readonly float rating;
+    readonly boolean active;
+    string title = "engineer";
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+type DeptEmployee record {|
+    int dept;
+    int? id;
+|};
+
+// More rows than the number of rows at which the queries create an index on demand.
+const int ROW_COUNT = 2000;
+
+function createEmployees() returns EmployeeTable {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< ROW_COUNT {
+        employees.add(createEmployee(i, i % 10));
+    }
+    return employees;
+}
+
+function createEmployee(int id, int dept) returns Employee {
+    return {
+        id: id,
+        name: "emp" + (id % 100).toString(),
+        dept: dept,
+        salary: <decimal>(id % 50) * 100.0d,
+        rating: <float>(id % 7) / 2.0,
+        active: id % 3 == 0
+    };
+}
+
+function idsOf(Employee[] employees) returns int[] {
+    return from var e in employees select e.id;
+}
+
+function idsInDept(EmployeeTable employees, int dept) returns int[] {
+    int[] ids = [];
+    foreach var e in employees {
+        if (e.dept == dept) {
+            ids.push(e.id);
+        }
+    }
+    return ids;
+}
+
+function testIndexedEqualityLookup() {
+    EmployeeTable employees = createEmployees();
+    final int dept = 3;
+
+    Employee[] byDept = from var e in employees where e.dept == dept select e;
+    assertEquality(idsInDept(employees, dept), idsOf(byDept));
+
+    int[] expected = [];
+    foreach var e in employees {
+        if (e.name == "emp42" && e.active) {
+            expected.push(e.id);
+        }
+    }
+    EmployeeTable|error byName = table key(id) from var e in employees
+        where e.name == "emp42"
+        where e.active
+        select e;
+    if (byName is EmployeeTable) {
+        assertEquality(expected, from var e in byName select e.id);
+    } else {
+        panic byName;
+    }
+
+    stream<Employee> activeStream = stream from var e in employees where e.active == true select e;
+    int count = 0;
+    error? result = activeStream.forEach(function (Employee e) {
+        count += 1;
+    });
+    assertEquality((), result);
+    assertEquality((ROW_COUNT + 2) / 3, count);
+
+    Employee[] none = from var e in employees where e.name == "unknown" select e;
+    assertEquality(0, none.length());
+}
+
+function testIndexedRangeLookup() {
+    EmployeeTable employees = createEmployees();
+
+    int[] expected = [];
+    foreach var e in employees {
+        if (e.salary >= 1000.0d && e.salary < 2500.0d) {
+            expected.push(e.id);
+        }
+    }
+    int[] actual = from var e in employees where e.salary >= 1000.0d && e.salary < 2500.0d select e.id;
+    assertEquality(expected, actual);
+
+    expected = [];
+    foreach var e in employees {
+        if (e.rating > 2.0) {
+            expected.push(e.id);
+        }
+    }
+    actual = from var e in employees where 2.0 < e.rating select e.id;
+    assertEquality(expected, actual);
+
+    actual = from var e in employees where e.id > ROW_COUNT - 4 select e.id;
+    assertEquality([ROW_COUNT - 3, ROW_COUNT - 2, ROW_COUNT - 1], actual);
+
+    actual = from var e in employees where e.id <= 2 where e.id >= 1 select e.id;
+    assertEquality([1, 2], actual);
+
+    actual = from var e in employees where e.id > 10 && e.id < 5 select e.id;
+    assertEquality(0, actual.length());
+}
+
+function testIndexedLookupAfterMutation() {
+    EmployeeTable employees = createEmployees();
+    int[] actual = from var e in employees where e.dept == 4 select e.id;
+    assertEquality(idsInDept(employees, 4), actual);
+
+    employees.add(createEmployee(ROW_COUNT, 4));
+    Employee removed = employees.remove(14);
+    assertEquality(4, removed.dept);
+    employees.put(createEmployee(24, 5));
+    employees.put(createEmployee(35, 4));
+    actual = from var e in employees where e.dept == 4 select e.id;
+    assertEquality(idsInDept(employees, 4), actual);
+    assertEquality(ROW_COUNT, actual[actual.length() - 1]);
+
+    actual = from var e in employees where e.id >= ROW_COUNT - 1 select e.id;
+    assertEquality([ROW_COUNT - 1, ROW_COUNT], actual);
+
+    employees.removeAll();
+    actual = from var e in employees where e.dept == 4 select e.id;
+    assertEquality(0, actual.length());
+
+    employees.add(createEmployee(1, 4));
+    actual = from var e in employees where e.dept == 4 select e.id;
+    assertEquality([1], actual);
+}
+
+// The rows looked up in an index are the rows of the table when the query starts, while iterating the table also
+// visits the rows added during the iteration. The difference shows whether the query used an index.
+function testIndexedLookupIsSnapshot() {
+    EmployeeTable employees = createEmployees();
+    int[] expected = idsInDept(employees, 4);
+    assertEquality(expected, visitAddingRows(employees, 4));
+    assertEquality(ROW_COUNT + expected.length(), employees.length());
+
+    // Too few rows to create an index on demand, so the query iterates the table.
+    final int smallRowCount = 100;
+    EmployeeTable small = table [];
+    foreach int i in 0 ..< smallRowCount {
+        small.add(createEmployee(i, i % 10));
+    }
+    expected = idsInDept(small, 4);
+    int[] visited = visitAddingRows(small, 4);
+    assertEquality(expected.length() * 2, visited.length());
+    assertEquality(expected, visited.slice(0, expected.length()));
+    assertEquality(smallRowCount + expected.length(), small.length());
+}
+
+// Adds a row in the same department for each row visited whose id is less than ROW_COUNT.
+function visitAddingRows(EmployeeTable employees, int dept) returns int[] {
+    int[] visited = [];
+    error? result = from var e in employees
+        where e.dept == dept
+        do {
+            visited.push(e.id);
+            if (e.id < ROW_COUNT) {
+                employees.add(createEmployee(e.id + ROW_COUNT, dept));
+            }
+        };
+    assertEquality((), result);
+    return visited;
+}
+
+function testIndexedJoin() {
+    EmployeeTable employees = createEmployees();
+    int[] depts = [2, 11, 7];
+
+    int[] expected = [];
+    foreach int dept in depts {
+        expected.push(...idsInDept(employees, dept));
+    }
+    int[] actual = from var dept in depts
+        join var e in employees on dept equals e.dept
+        select e.id;
+    assertEquality(expected, actual);
+
+    DeptEmployee[] outer = from var dept in depts
+        outer join var e in employees on dept equals e.dept
+        select {dept: dept, id: e.id};
+    assertEquality(expected.length() + 1, outer.length());
+    int idsInDept2 = idsInDept(employees, 2).length();
+    assertEquality(<DeptEmployee>{dept: 11, id: ()}, outer[idsInDept2]);
+    assertEquality(<DeptEmployee>{dept: 7, id: 7}, outer[idsInDept2 + 1]);
+}
+
+function testConcurrentIndexedQueries() {
+    EmployeeTable & readonly employees = createEmployees().cloneReadOnly();
+    future<int[]>[] futures = [];
+    foreach int i in 0 ..< 16 {
+        future<int[]> f = @strand {thread: "any"} start queryDept(employees, i % 10);
+        futures.push(f);
+    }
+    foreach int i in 0 ..< 16 {
+        future<int[]> f = futures[i];
+        int[] ids = wait f;
+        assertEquality(idsInDept(employees, i % 10), ids);
+    }
+}
+
+function queryDept(EmployeeTable & readonly employees, int dept) returns int[] {
+    return from var e in employees where e.dept == dept select e.id;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}